@@ -0,0 +1,45 @@
+package ru.practicum.shareit.utility;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VirtualThreadConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadConfig.class);
+
+    @Test
+    void shouldKeepPlatformThreadsByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context.getBeansOfType(ExecutorService.class), anEmptyMap());
+            assertThat(context.getBeansOfType(TomcatProtocolHandlerCustomizer.class), anEmptyMap());
+        });
+    }
+
+    @Test
+    void shouldCustomizeTomcatWhenEnabled() {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        contextRunner.withPropertyValues("shareit.threads.virtual=true").run(context -> {
+            assertThat(context.getBeansOfType(ExecutorService.class), aMapWithSize(1));
+            assertThat(context.getBeansOfType(TomcatProtocolHandlerCustomizer.class), aMapWithSize(1));
+        });
+    }
+
+    @Test
+    void shouldFailStartupWithoutVirtualThreadSupport() {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        contextRunner.withPropertyValues("shareit.threads.virtual=true").run(context -> {
+            assertThat(context.getStartupFailure(), notNullValue());
+            assertThat(context.getStartupFailure().getMessage(),
+                    containsString("Virtual threads require Java 21 or newer"));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.utility;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualThreadsTest {
+
+    @Test
+    void shouldRunTasksOnVirtualThreads() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        try {
+            Boolean isVirtual = executor.submit(() ->
+                    (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get();
+            assertThat(isVirtual, equalTo(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldFailFastWithoutVirtualThreadSupport() {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                VirtualThreads::newVirtualThreadPerTaskExecutor);
+        assertThat(exception.getMessage(), startsWith("Virtual threads require Java 21 or newer"));
+    }
+}
\ No newline at end of file
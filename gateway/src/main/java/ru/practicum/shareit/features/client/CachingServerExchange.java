@@ -0,0 +1,45 @@
+package ru.practicum.shareit.features.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+// Serves cacheable GETs from the gateway response cache and invalidates it on successful proxied mutations,
+// blocking mode
+@RequiredArgsConstructor
+public class CachingServerExchange implements ServerExchange<ResponseEntity<Object>> {
+    private final String apiPrefix;
+    private final ServerExchange<ResponseEntity<Object>> delegate;
+    private final GatewayResponseCache responseCache;
+
+    @Override
+    public ResponseEntity<Object> exchange(HttpMethod method,
+                                           String path,
+                                           HttpHeaders headers,
+                                           @Nullable Map<String, Object> parameters,
+                                           @Nullable Object body) {
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            responseCache.beginMutation();
+            ResponseEntity<Object> result = delegate.exchange(method, path, headers, parameters, body);
+            if (result.getStatusCode().is2xxSuccessful()) {
+                responseCache.evict(apiPrefix, path);
+            }
+            return result;
+        }
+        GatewayResponseCache.Key key = responseCache.getKey(apiPrefix, method, path, headers, parameters);
+        if (key == null) {
+            return delegate.exchange(method, path, headers, parameters, body);
+        }
+        ResponseEntity<Object> cached = responseCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = responseCache.startLoad();
+        return responseCache.completeLoad(key, loadGeneration,
+                delegate.exchange(method, path, headers, parameters, body));
+    }
+}
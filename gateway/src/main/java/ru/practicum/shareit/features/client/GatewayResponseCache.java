@@ -0,0 +1,153 @@
+package ru.practicum.shareit.features.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Short-lived per-user cache of idempotent GET responses proxied to shareit-server,
+// used by the caching transport of either client mode
+@Component
+public class GatewayResponseCache {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String USERS_PREFIX = "/users";
+    private static final Pattern USER_PATH = Pattern.compile("/(\\d+)");
+    // Mutations of the key resource change responses of the listed resources
+    private static final Map<String, List<String>> DEPENDENT_RESOURCES = Map.of(
+            "/items", List.of("/items", "/requests"),
+            "/bookings", List.of("/items"),
+            "/requests", List.of("/requests"));
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final boolean enabled;
+    private final List<String> cacheablePaths;
+    private final Cache<Key, ResponseEntity<Object>> responses;
+    private final AtomicLong generation = new AtomicLong();
+
+    public GatewayResponseCache(
+            @Value("${shareit-gateway.cache.enabled:false}") boolean enabled,
+            @Value("${shareit-gateway.cache.paths:/items/*,/requests,/requests/*}") List<String> cacheablePaths,
+            @Value("${shareit-gateway.cache.ttl:2s}") Duration ttl,
+            @Value("${shareit-gateway.cache.maximum-size:10000}") long maximumSize) {
+        this.enabled = enabled;
+        this.cacheablePaths = cacheablePaths;
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ServerExchange<ResponseEntity<Object>> decorate(String apiPrefix,
+                                                           ServerExchange<ResponseEntity<Object>> exchange) {
+        return enabled ? new CachingServerExchange(apiPrefix, exchange, this) : exchange;
+    }
+
+    public boolean isCacheable(HttpMethod method, String path) {
+        return enabled
+                && method == HttpMethod.GET
+                && cacheablePaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    // Key of the proxied request, null when its response is not cached
+    @Nullable
+    Key getKey(String apiPrefix, HttpMethod method, String path, HttpHeaders headers,
+               @Nullable Map<String, Object> parameters) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(apiPrefix + path)
+                .buildAndExpand(parameters != null ? parameters : Map.of());
+        if (!isCacheable(method, uri.getPath())) {
+            return null;
+        }
+        String userId = headers.getFirst(USER_ID_HEADER);
+        return new Key(method, uri.toUriString(), userId != null ? Long.valueOf(userId) : null);
+    }
+
+    @Nullable
+    ResponseEntity<Object> getIfPresent(Key key) {
+        return responses.getIfPresent(key);
+    }
+
+    // Generation to pass to completeLoad, taken before the server is called
+    long startLoad() {
+        return generation.get();
+    }
+
+    // Successful responses are cached with a content based ETag, unless a mutation was sent while loading
+    ResponseEntity<Object> completeLoad(Key key, long loadGeneration, ResponseEntity<Object> response) {
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() instanceof byte[]) {
+            ResponseEntity<Object> tagged = withETag(response, (byte[]) response.getBody());
+            store(key, tagged, loadGeneration);
+            return tagged;
+        }
+        return response;
+    }
+
+    // Stops loads in flight from caching responses that may predate the mutation being sent
+    public void beginMutation() {
+        generation.incrementAndGet();
+    }
+
+    // Drops cached responses of all users that may show the mutated resource. A mutated user drops only
+    // the responses requested by that user, responses of others showing the user expire with the ttl
+    public void evict(String apiPrefix, String path) {
+        generation.incrementAndGet();
+        if (USERS_PREFIX.equals(apiPrefix)) {
+            Matcher userPath = USER_PATH.matcher(path);
+            if (userPath.matches()) {
+                Long userId = Long.valueOf(userPath.group(1));
+                responses.asMap().keySet().removeIf(key -> userId.equals(key.getUserId()));
+            }
+            return;
+        }
+        List<String> dependents = DEPENDENT_RESOURCES.getOrDefault(apiPrefix, List.of("/"));
+        responses.asMap().keySet().removeIf(key -> dependents.stream().anyMatch(key.getUri()::startsWith));
+    }
+
+    // Checks generation again after put, mutation may begin between check and put
+    private void store(Key key, ResponseEntity<Object> response, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        responses.put(key, response);
+        if (generation.get() != loadGeneration) {
+            responses.invalidate(key);
+        }
+    }
+
+    private static ResponseEntity<Object> withETag(ResponseEntity<Object> response, byte[] body) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag("\"0" + DigestUtils.md5DigestAsHex(body) + "\"")
+                .body(body);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static class Key {
+        private final HttpMethod method;
+        private final String uri;
+        private final Long userId;
+    }
+}
\ No newline at end of file
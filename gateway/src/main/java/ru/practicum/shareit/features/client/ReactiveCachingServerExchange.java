@@ -0,0 +1,50 @@
+package ru.practicum.shareit.features.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// Serves cacheable GETs from the gateway response cache and invalidates it on successful proxied mutations,
+// reactive mode: the cache is read and the load generation taken when the request is subscribed
+@RequiredArgsConstructor
+public class ReactiveCachingServerExchange implements ServerExchange<Mono<ResponseEntity<Object>>> {
+    private final String apiPrefix;
+    private final ServerExchange<Mono<ResponseEntity<Object>>> delegate;
+    private final GatewayResponseCache responseCache;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method,
+                                                 String path,
+                                                 HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters,
+                                                 @Nullable Object body) {
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return Mono.defer(() -> {
+                responseCache.beginMutation();
+                return delegate.exchange(method, path, headers, parameters, body);
+            }).doOnNext(result -> {
+                if (result.getStatusCode().is2xxSuccessful()) {
+                    responseCache.evict(apiPrefix, path);
+                }
+            });
+        }
+        GatewayResponseCache.Key key = responseCache.getKey(apiPrefix, method, path, headers, parameters);
+        if (key == null) {
+            return delegate.exchange(method, path, headers, parameters, body);
+        }
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = responseCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long loadGeneration = responseCache.startLoad();
+            return delegate.exchange(method, path, headers, parameters, body)
+                    .map(response -> responseCache.completeLoad(key, loadGeneration, response));
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.features.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// Shared non-blocking HTTP transport of gateway clients to shareit-server, reactive mode.
+// WebFlux and Reactor Netty are packaged by the reactive-client build profile only
+@Configuration
+@ConditionalOnProperty(name = "shareit-server.client", havingValue = "reactive")
+public class ReactiveHttpClientConfig {
+    private static final String POOL_NAME = "shareit-server";
+
+    // Exposes reactor.netty.connection.provider.* gauges of active, idle and pending connections
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareItServerConnectionProvider(
+            @Value("${shareit-server.http.max-total:200}") int maxTotal,
+            @Value("${shareit-server.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${shareit-server.http.connection-request-timeout:2s}") Duration connectionRequestTimeout) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(idleTimeout)
+                .evictInBackground(idleTimeout)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ReactorClientHttpConnector shareItServerConnector(
+            ConnectionProvider shareItServerConnectionProvider,
+            @Value("${shareit-server.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${shareit-server.http.read-timeout:30s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(shareItServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Bean
+    public ServerExchangeFactory reactiveServerExchangeFactory(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ReactorClientHttpConnector shareItServerConnector,
+            GatewayResponseCache responseCache) {
+        return apiPrefix -> {
+            ServerExchange<Mono<ResponseEntity<Object>>> exchange = new WebClientServerExchange(
+                    builder.clone()
+                            .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                            .clientConnector(shareItServerConnector)
+                            .build()
+            );
+            return responseCache.isEnabled()
+                    ? new ReactiveCachingServerExchange(apiPrefix, exchange, responseCache)
+                    : exchange;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.features.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+// Blocking transport, the server call runs on the request thread
+@RequiredArgsConstructor
+public class RestTemplateServerExchange implements ServerExchange<ResponseEntity<Object>> {
+    private final RestTemplate rest;
+
+    @Override
+    public ResponseEntity<Object> exchange(HttpMethod method,
+                                           String path,
+                                           HttpHeaders headers,
+                                           @Nullable Map<String, Object> parameters,
+                                           @Nullable Object body) {
+        HttpEntity<Object> requestEntity = new HttpEntity<>(body, headers);
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return BaseClient.prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(),
+                    e.getResponseBodyAsByteArray());
+        }
+        return BaseClient.prepareGatewayResponse(shareitServerResponse.getStatusCode(),
+                shareitServerResponse.getHeaders(), shareitServerResponse.getBody());
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.features.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+// Transport of gateway requests to one API prefix of shareit-server, R is the gateway response of the mode:
+// ResponseEntity<Object> in blocking mode, Mono<ResponseEntity<Object>> in reactive mode
+public interface ServerExchange<R> {
+    R exchange(HttpMethod method,
+               String path,
+               HttpHeaders headers,
+               @Nullable Map<String, Object> parameters,
+               @Nullable Object body);
+}
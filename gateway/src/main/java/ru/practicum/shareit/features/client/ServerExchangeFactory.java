@@ -0,0 +1,7 @@
+package ru.practicum.shareit.features.client;
+
+// Creates transports of the mode selected by shareit-server.client property
+@FunctionalInterface
+public interface ServerExchangeFactory {
+    ServerExchange<?> forPrefix(String apiPrefix);
+}
@@ -1,13 +1,8 @@
 package ru.practicum.shareit.features.item;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.features.client.BaseClient;
+import ru.practicum.shareit.features.client.ServerExchangeFactory;
 import ru.practicum.shareit.features.item.model.CommentDto;
 import ru.practicum.shareit.features.item.model.ItemDto;
 
@@ -17,17 +12,11 @@ import java.util.Map;
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
-    @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerExchangeFactory exchangeFactory) {
+        super(exchangeFactory.forPrefix(API_PREFIX));
     }
 
-    public ResponseEntity<Object> getAllOwnerItems(long userId, Integer from, Integer size) {
+    public Object getAllOwnerItems(long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -35,11 +24,27 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemDtoById(long userId, Long id) {
+    public Object getAllOwnerItemsAfter(long userId, String after, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "after", after,
+                "size", size
+        );
+        return get("?after={after}&size={size}", userId, parameters);
+    }
+
+    public Object getItemDtoById(long userId, Long id) {
         return get("/" + id, userId);
     }
 
-    public ResponseEntity<Object> getSearch(long userId, String text, Integer from, Integer size) {
+    public Object getComments(long userId, Long id, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("/" + id + "/comments?from={from}&size={size}", userId, parameters);
+    }
+
+    public Object getSearch(long userId, String text, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
@@ -48,19 +53,19 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> create(long ownerId, ItemDto itemDto) {
+    public Object create(long ownerId, ItemDto itemDto) {
         return post("", ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> postComment(long userId, Long id, CommentDto commentDto) {
+    public Object postComment(long userId, Long id, CommentDto commentDto) {
         return post("/" + id + "/comment", userId, commentDto);
     }
 
-    public ResponseEntity<Object> patch(long userId, Long id, String json) {
+    public Object patch(long userId, Long id, String json) {
         return patch("/" + id, userId, json);
     }
 
-    public void deleteById(long ownerId, Long id) {
-        delete("/" + id, ownerId);
+    public Object deleteById(long ownerId, Long id) {
+        return delete("/" + id, ownerId);
     }
 }
@@ -1,7 +1,6 @@
 package ru.practicum.shareit.features.item;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.item.model.CommentDto;
 import ru.practicum.shareit.features.item.model.ItemDto;
@@ -16,20 +15,32 @@ public class ItemController {
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
     @GetMapping
-    public ResponseEntity<Object> getAllOwnerItems(@RequestHeader(USER_ID_HEADER) Long ownerId,
+    public Object getAllOwnerItems(@RequestHeader(USER_ID_HEADER) Long ownerId,
                                                    @RequestParam(defaultValue = "0", required = false) Integer from,
-                                                   @RequestParam(defaultValue = "10", required = false) Integer size) {
+                                                   @RequestParam(defaultValue = "10", required = false) Integer size,
+                                                   @RequestParam(required = false) String after) {
+        if (after != null) {
+            return itemClient.getAllOwnerItemsAfter(ownerId, after, size);
+        }
         return itemClient.getAllOwnerItems(ownerId, from, size);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getItemById(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object getItemById(@RequestHeader(USER_ID_HEADER) Long userId,
                                @PathVariable Long id) {
         return itemClient.getItemDtoById(userId, id);
     }
 
+    @GetMapping("/{id}/comments")
+    public Object getComments(@RequestHeader(USER_ID_HEADER) Long userId,
+                                              @PathVariable Long id,
+                                              @RequestParam(defaultValue = "0", required = false) Integer from,
+                                              @RequestParam(defaultValue = "10", required = false) Integer size) {
+        return itemClient.getComments(userId, id, from, size);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Object> getSearch(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object getSearch(@RequestHeader(USER_ID_HEADER) Long userId,
                                    @RequestParam("text") String text,
                                    @RequestParam(defaultValue = "0", required = false) Integer from,
                                    @RequestParam(defaultValue = "10", required = false) Integer size) {
@@ -37,28 +48,28 @@ public class ItemController {
     }
 
     @PostMapping
-    public ResponseEntity<Object> postItem(@RequestHeader(USER_ID_HEADER) Long ownerId,
+    public Object postItem(@RequestHeader(USER_ID_HEADER) Long ownerId,
                             @Valid @RequestBody ItemDto itemDto) {
         return itemClient.create(ownerId, itemDto);
     }
 
     @PostMapping("/{id}/comment")
-    public ResponseEntity<Object> postComment(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object postComment(@RequestHeader(USER_ID_HEADER) Long userId,
                                   @PathVariable Long id,
                                   @Valid @RequestBody CommentDto commentDto) {
         return itemClient.postComment(userId, id, commentDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> patchItem(@RequestHeader(USER_ID_HEADER) Long ownerId,
+    public Object patchItem(@RequestHeader(USER_ID_HEADER) Long ownerId,
                              @PathVariable Long id,
                              @RequestBody String json) {
         return itemClient.patch(ownerId, id, json);
     }
 
     @DeleteMapping("/{id}")
-    public void deleteItemById(@RequestHeader(USER_ID_HEADER) Long ownerId,
+    public Object deleteItemById(@RequestHeader(USER_ID_HEADER) Long ownerId,
                                @PathVariable Long id) {
-        itemClient.deleteById(ownerId, id);
+        return itemClient.deleteById(ownerId, id);
     }
 }
\ No newline at end of file
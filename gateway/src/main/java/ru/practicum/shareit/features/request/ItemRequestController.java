@@ -1,7 +1,6 @@
 package ru.practicum.shareit.features.request;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.request.model.ItemRequestDto;
 
@@ -15,25 +14,31 @@ public class ItemRequestController {
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
     @PostMapping
-    public ResponseEntity<Object> postRequest(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object postRequest(@RequestHeader(USER_ID_HEADER) Long userId,
                                               @Valid @RequestBody ItemRequestDto itemRequestDto) {
         return itemRequestClient.createRequest(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUserRequests(@RequestHeader(USER_ID_HEADER) Long userId) {
-        return itemRequestClient.getUserRequests(userId);
+    public Object getUserRequests(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                  @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                  @RequestParam(defaultValue = "10", required = false) Integer size) {
+        return itemRequestClient.getUserRequests(userId, from, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object getAllRequests(@RequestHeader(USER_ID_HEADER) Long userId,
                                                @RequestParam(defaultValue = "0", required = false) Integer from,
-                                               @RequestParam(defaultValue = "10", required = false) Integer size) {
+                                               @RequestParam(defaultValue = "10", required = false) Integer size,
+                                               @RequestParam(required = false) String after) {
+        if (after != null) {
+            return itemRequestClient.getAllRequestsAfter(userId, after, size);
+        }
         return itemRequestClient.getAllRequests(userId, from, size);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequestById(@RequestHeader(USER_ID_HEADER) Long userId,
+    public Object getRequestById(@RequestHeader(USER_ID_HEADER) Long userId,
                                          @PathVariable Long requestId) {
         return itemRequestClient.getRequestById(userId, requestId);
     }
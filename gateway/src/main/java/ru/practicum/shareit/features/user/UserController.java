@@ -1,7 +1,6 @@
 package ru.practicum.shareit.features.user;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.user.model.UserDto;
 
@@ -14,28 +13,28 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Object getAllUsers() {
         return userClient.getAll();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getUserById(@PathVariable Long id) {
+    public Object getUserById(@PathVariable Long id) {
         return userClient.getUserDtoById(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> postUser(@Valid @RequestBody UserDto userDto) {
+    public Object postUser(@Valid @RequestBody UserDto userDto) {
         return userClient.create(userDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> patchUser(@PathVariable Long id,
+    public Object patchUser(@PathVariable Long id,
                              @RequestBody String json) {
         return userClient.patch(id, json);
     }
 
     @DeleteMapping("/{id}")
-    public void deleteUserById(@PathVariable Long id) {
-        userClient.deleteById(id);
+    public Object deleteUserById(@PathVariable Long id) {
+        return userClient.deleteById(id);
     }
 }
\ No newline at end of file
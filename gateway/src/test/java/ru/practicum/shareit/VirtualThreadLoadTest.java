@@ -0,0 +1,183 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import ru.practicum.shareit.utility.VirtualThreads;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+// Compares throughput of the Tomcat worker pool and virtual threads at 5k concurrent connections to the gateway.
+// Packaged server and gateway run as separate JVMs, so every request takes the gateway to server HTTP hop.
+// Opt-in, run on Java 21+ after packaging: mvn -B install -DskipTests
+// mvn -pl gateway test -Dtest=VirtualThreadLoadTest -Dshareit.load-test=true
+@Slf4j
+@EnabledIfSystemProperty(named = "shareit.load-test", matches = "true")
+class VirtualThreadLoadTest {
+    static final int CONCURRENCY = Integer.getInteger("shareit.load-test.concurrency", 5_000);
+    static final int REQUESTS = Integer.getInteger("shareit.load-test.requests", 50_000);
+    static final Path SERVER_JAR = Path.of(System.getProperty("shareit.load-test.server-jar",
+            "../server/target/shareit-server-0.0.1-SNAPSHOT.jar"));
+    static final Path GATEWAY_JAR = Path.of(System.getProperty("shareit.load-test.gateway-jar",
+            "target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+    static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    // No Spring context runs in this JVM to lift log4j2 above its default ERROR level
+    @BeforeAll
+    static void enableResultLogging() {
+        Configurator.setLevel(VirtualThreadLoadTest.class.getName(), Level.INFO);
+    }
+
+    @Test
+    void shouldCompareThroughputOfPlatformAndVirtualThreads() throws Exception {
+        assertThat("Server jar " + SERVER_JAR + " is packaged", Files.exists(SERVER_JAR), equalTo(true));
+        assertThat("Gateway jar " + GATEWAY_JAR + " is packaged", Files.exists(GATEWAY_JAR), equalTo(true));
+
+        double platformThroughput = measureThroughput(false);
+        log.info("Platform thread pools: {} req/s", String.format("%.0f", platformThroughput));
+
+        if (!VirtualThreads.isSupported()) {
+            log.warn("Virtual threads are not supported on Java {}, comparison skipped", Runtime.version());
+            return;
+        }
+        double virtualThroughput = measureThroughput(true);
+        log.info("Virtual threads: {} req/s ({}x platform thread pools)",
+                String.format("%.0f", virtualThroughput),
+                String.format("%.2f", virtualThroughput / platformThroughput));
+    }
+
+    private double measureThroughput(boolean virtualThreads) throws Exception {
+        int serverPort = findFreePort();
+        int gatewayPort = findFreePort();
+        Process server = start(SERVER_JAR, "server", virtualThreads,
+                "--server.port=" + serverPort,
+                "--spring.profiles.active=ci");
+        Process gateway = null;
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        try {
+            gateway = start(GATEWAY_JAR, "gateway", virtualThreads,
+                    "--server.port=" + gatewayPort,
+                    "--server.tomcat.accept-count=" + CONCURRENCY,
+                    "--shareit-server.url=http://localhost:" + serverPort,
+                    "--shareit-gateway.cache.enabled=false",
+                    "--logging.level.org.springframework.web.client.RestTemplate=INFO");
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            URI usersUri = URI.create("http://localhost:" + gatewayPort + "/users");
+            awaitStartup(client, usersUri, server, gateway);
+            URI userUri = createUser(client, usersUri);
+            sendRequests(client, userUri, CONCURRENCY);
+
+            long start = System.nanoTime();
+            int failures = sendRequests(client, userUri, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(failures, equalTo(0));
+            return REQUESTS / seconds;
+        } finally {
+            clientExecutor.shutdown();
+            stop(gateway);
+            stop(server);
+        }
+    }
+
+    private Process start(Path jar, String name, boolean virtualThreads, String... arguments) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", jar.toString(),
+                "--shareit.threads.virtual=" + virtualThreads));
+        command.addAll(List.of(arguments));
+        Path log = Path.of("target", "load-test-" + name + (virtualThreads ? "-virtual" : "-platform") + ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private void stop(Process process) throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // Polls the gateway until both applications answer, see target/load-test-*.log when startup fails
+    private void awaitStartup(HttpClient client, URI usersUri, Process server, Process gateway) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(usersUri).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && server.isAlive() && gateway.isAlive()) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Applications are not ready yet: {}", e.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Server and gateway did not start, see target/load-test-*.log");
+    }
+
+    private URI createUser(HttpClient client, URI usersUri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(usersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Load\",\"email\":\"load@email.com\"}"))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        String id = body.replaceAll(".*\"id\":(\\d+).*", "$1");
+        return URI.create(usersUri + "/" + id);
+    }
+
+    // Keeps CONCURRENCY requests in flight until all requests are answered, returns the number of failures
+    private int sendRequests(HttpClient client, URI uri, int requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            CompletableFuture<HttpResponse<Void>> response =
+                    client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((result, error) -> {
+                if (error != null || result.statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(CONCURRENCY);
+        return failures.get();
+    }
+}
\ No newline at end of file
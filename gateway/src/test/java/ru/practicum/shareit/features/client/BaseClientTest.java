@@ -0,0 +1,141 @@
+package ru.practicum.shareit.features.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class BaseClientTest {
+    private static final String JSON = "{\"id\":1,\"name\":\"Item\",\"available\":true}";
+
+    private MockRestServiceServer server;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+        client = new BaseClient(new RestTemplateServerExchange(rest));
+    }
+
+    @Test
+    void shouldPassResponseBodyThroughAsBytes() {
+        server.expect(requestTo("/items/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "2"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = toResponse(client.get("/items/1", 2L));
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getBody(), instanceOf(byte[].class));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(JSON));
+        server.verify();
+    }
+
+    @Test
+    void shouldReturnResponseSynchronouslyInBlockingMode() {
+        server.expect(requestTo("/users/1"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+
+        assertThat(client.get("/users/1", 1L), instanceOf(ResponseEntity.class));
+        server.verify();
+    }
+
+    @Test
+    void shouldPassEndToEndHeadersThrough() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "MjAyMy0wOS0wMVQxMjowMDoxMHwx");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive, X-Server-Hop");
+        headers.set("Keep-Alive", "timeout=60");
+        headers.set("X-Server-Hop", "1");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.expect(requestTo("/bookings?state=ALL"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<Object> response = toResponse(client.get("/bookings?state=ALL", 2L));
+
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor"), equalTo("MjAyMy0wOS0wMVQxMjowMDoxMHwx"));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().keySet(), everyItem(not(in(List.of(HttpHeaders.CONNECTION, "Keep-Alive",
+                "X-Server-Hop", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH)))));
+    }
+
+    @Test
+    void shouldPassErrorResponseThrough() {
+        String error = "{\"error\":\"The specified item id=1 does not exist\"}";
+        server.expect(requestTo("/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+
+        ResponseEntity<Object> response = toResponse(client.get("/items/1", 2L));
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(error));
+    }
+
+    @Test
+    void shouldReturnEmptyResponseWithoutBody() {
+        server.expect(requestTo("/users/1"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess());
+
+        ResponseEntity<Object> response = toResponse(client.delete("/users/1"));
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(response.hasBody(), equalTo(false));
+    }
+
+    @Test
+    void shouldPassResponseBodyThroughWithWebClient() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    assertThat(request.url().toString(), equalTo("/items/search?text=drill"));
+                    assertThat(request.headers().getFirst("X-Sharer-User-Id"), equalTo("2"));
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(JSON.length()))
+                            .header("X-Next-Cursor", "MQ")
+                            .body(JSON)
+                            .build());
+                })
+                .build();
+        BaseClient reactiveClient = new BaseClient(new WebClientServerExchange(webClient));
+
+        Object result = reactiveClient.get("/items/search?text={text}", 2L, Map.of("text", "drill"));
+        assertThat(result, instanceOf(Mono.class));
+        ResponseEntity<Object> response = toResponse(result);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor"), equalTo("MQ"));
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH), equalTo(false));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(JSON));
+    }
+
+    @SuppressWarnings("unchecked")
+    static ResponseEntity<Object> toResponse(Object result) {
+        if (result instanceof Mono) {
+            return ((Mono<ResponseEntity<Object>>) result).block();
+        }
+        return (ResponseEntity<Object>) result;
+    }
+}
\ No newline at end of file
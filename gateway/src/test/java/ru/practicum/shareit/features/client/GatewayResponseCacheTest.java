@@ -0,0 +1,201 @@
+package ru.practicum.shareit.features.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.practicum.shareit.features.client.BaseClientTest.toResponse;
+
+class GatewayResponseCacheTest {
+    private final AtomicInteger serverCalls = new AtomicInteger();
+    private HttpStatus serverStatus;
+    private GatewayResponseCache responseCache;
+    private BaseClient itemClient;
+    private BaseClient bookingClient;
+    private BaseClient userClient;
+
+    @BeforeEach
+    void setUp() {
+        serverStatus = HttpStatus.OK;
+        responseCache = new GatewayResponseCache(true, List.of("/items/*", "/requests", "/requests/*"),
+                Duration.ofMinutes(1), 100);
+        ServerExchange<ResponseEntity<Object>> server = (method, path, headers, parameters, body) -> getServerResponse();
+        itemClient = new BaseClient(responseCache.decorate("/items", server));
+        bookingClient = new BaseClient(responseCache.decorate("/bookings", server));
+        userClient = new BaseClient(responseCache.decorate("/users", server));
+    }
+
+    @Test
+    void shouldServeRepeatedGetOfSameUserFromCache() {
+        ResponseEntity<Object> first = toResponse(itemClient.get("/1", 1L));
+        ResponseEntity<Object> second = toResponse(itemClient.get("/1", 1L));
+
+        assertThat(serverCalls.get(), equalTo(1));
+        assertThat(second.getBody(), sameInstance(first.getBody()));
+        assertThat(second.getHeaders().getETag(), startsWith("\"0"));
+        assertThat(second.getHeaders().getETag(), equalTo(first.getHeaders().getETag()));
+    }
+
+    @Test
+    void shouldKeyCacheByUserAndQuery() {
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+        itemClient.get("/search?text={text}", 1L, Map.of("text", "drill"));
+        itemClient.get("/search?text={text}", 1L, Map.of("text", "saw"));
+        itemClient.get("/search?text={text}", 1L, Map.of("text", "saw"));
+
+        assertThat(serverCalls.get(), equalTo(4));
+    }
+
+    @Test
+    void shouldNotCacheOtherPathsAndFailedResponses() {
+        itemClient.get("", 1L);
+        itemClient.get("", 1L);
+        assertThat(serverCalls.get(), equalTo(2));
+
+        serverStatus = HttpStatus.NOT_FOUND;
+        ResponseEntity<Object> notFound = toResponse(itemClient.get("/99", 1L));
+        itemClient.get("/99", 1L);
+        assertThat(serverCalls.get(), equalTo(4));
+        assertThat(notFound.getHeaders().getETag(), nullValue());
+    }
+
+    @Test
+    void shouldEvictResourceOfAllUsersOnProxiedMutation() {
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+
+        itemClient.patch("/1", 1L, "{\"name\":\"Saw\"}");
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+
+        assertThat(serverCalls.get(), equalTo(5));
+    }
+
+    @Test
+    void shouldEvictItemsOnBookingMutation() {
+        itemClient.get("/1", 1L);
+
+        bookingClient.patch("/1?approved=true", 1L, true);
+        itemClient.get("/1", 1L);
+
+        assertThat(serverCalls.get(), equalTo(3));
+    }
+
+    @Test
+    void shouldEvictOnlyResponsesOfMutatedUser() {
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+
+        userClient.patch("/1", "{\"name\":\"Jane\"}");
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+        assertThat(serverCalls.get(), equalTo(4));
+
+        userClient.post("", "{\"name\":\"John\"}");
+        userClient.delete("/2");
+        itemClient.get("/1", 1L);
+        itemClient.get("/1", 2L);
+        assertThat(serverCalls.get(), equalTo(7));
+    }
+
+    @Test
+    void shouldKeepCacheOnFailedMutation() {
+        itemClient.get("/1", 1L);
+
+        serverStatus = HttpStatus.BAD_REQUEST;
+        itemClient.patch("/1", 1L, "{\"name\":\"\"}");
+        serverStatus = HttpStatus.OK;
+        itemClient.get("/1", 1L);
+
+        assertThat(serverCalls.get(), equalTo(2));
+    }
+
+    @Test
+    void shouldNotCacheLoadInFlightDuringMutation() {
+        BaseClient[] client = new BaseClient[1];
+        ServerExchange<ResponseEntity<Object>> server = (method, path, headers, parameters, body) -> {
+            if (method == HttpMethod.GET && serverCalls.get() == 0) {
+                client[0].patch("/1", 1L, "{\"name\":\"Saw\"}");
+            }
+            return getServerResponse();
+        };
+        client[0] = new BaseClient(responseCache.decorate("/items", server));
+
+        client[0].get("/1", 1L);
+        client[0].get("/1", 1L);
+
+        assertThat(serverCalls.get(), equalTo(3));
+    }
+
+    @Test
+    void shouldServeRepeatedGetFromCacheInReactiveMode() {
+        ServerExchange<Mono<ResponseEntity<Object>>> server = (method, path, headers, parameters, body) ->
+                Mono.fromSupplier(this::getServerResponse);
+        BaseClient client = new BaseClient(new ReactiveCachingServerExchange("/items", server, responseCache));
+
+        Object first = client.get("/1", 1L);
+        Object second = client.get("/1", 1L);
+        assertThat(serverCalls.get(), equalTo(0));
+
+        assertThat(toResponse(first).getHeaders().getETag(), startsWith("\"0"));
+        assertThat(toResponse(second).getBody(), sameInstance(toResponse(first).getBody()));
+        assertThat(serverCalls.get(), equalTo(1));
+    }
+
+    @Test
+    void shouldNotCacheReactiveLoadInFlightDuringMutation() {
+        Sinks.One<ResponseEntity<Object>> pendingLoad = Sinks.one();
+        ServerExchange<Mono<ResponseEntity<Object>>> server = (method, path, headers, parameters, body) -> {
+            serverCalls.incrementAndGet();
+            return method == HttpMethod.GET ? pendingLoad.asMono() : Mono.just(ResponseEntity.ok().build());
+        };
+        BaseClient client = new BaseClient(new ReactiveCachingServerExchange("/items", server, responseCache));
+        AtomicReference<ResponseEntity<Object>> staleLoad = new AtomicReference<>();
+
+        toMono(client.get("/1", 1L)).subscribe(staleLoad::set);
+        toResponse(client.patch("/1", 1L, "{\"name\":\"Saw\"}"));
+        pendingLoad.tryEmitValue(ResponseEntity.ok().body((Object) "{\"name\":\"Drill\"}".getBytes(StandardCharsets.UTF_8)));
+        toResponse(client.get("/1", 1L));
+
+        assertThat(staleLoad.get(), notNullValue());
+        assertThat(serverCalls.get(), equalTo(3));
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() {
+        GatewayResponseCache disabled = new GatewayResponseCache(false, List.of("/items/*"), Duration.ofMinutes(1), 100);
+        ServerExchange<ResponseEntity<Object>> server = (method, path, headers, parameters, body) -> getServerResponse();
+
+        assertThat(disabled.isEnabled(), equalTo(false));
+        assertThat(disabled.decorate("/items", server), sameInstance(server));
+        assertThat(disabled.isCacheable(HttpMethod.GET, "/items/1"), equalTo(false));
+        assertThat(responseCache.isCacheable(HttpMethod.GET, "/items/1"), equalTo(true));
+        assertThat(responseCache.isCacheable(HttpMethod.GET, "/items/1/comments"), equalTo(false));
+    }
+
+    private ResponseEntity<Object> getServerResponse() {
+        return ResponseEntity.status(serverStatus)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body((Object) ("{\"call\":" + serverCalls.incrementAndGet() + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<ResponseEntity<Object>> toMono(Object result) {
+        return (Mono<ResponseEntity<Object>>) result;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.features.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class HttpClientConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(
+                    MetricsAutoConfiguration.class,
+                    SimpleMetricsExportAutoConfiguration.class,
+                    RestTemplateAutoConfiguration.class,
+                    WebClientAutoConfiguration.class))
+            .withPropertyValues(
+                    "shareit-server.url=http://localhost:9090",
+                    "shareit-gateway.cache.enabled=false")
+            .withUserConfiguration(HttpClientConfig.class, ReactiveHttpClientConfig.class, GatewayResponseCache.class);
+
+    @Test
+    void shouldConfigureSharedConnectionPool() {
+        contextRunner
+                .withPropertyValues(
+                        "shareit-server.http.max-total=50",
+                        "shareit-server.http.max-per-route=20")
+                .run(context -> {
+                    PoolingHttpClientConnectionManager connectionManager =
+                            context.getBean(PoolingHttpClientConnectionManager.class);
+
+                    assertThat(connectionManager.getMaxTotal(), equalTo(50));
+                    assertThat(connectionManager.getDefaultMaxPerRoute(), equalTo(20));
+                    assertThat(context.getBeansOfType(HttpComponentsClientHttpRequestFactory.class).size(), equalTo(1));
+                    assertThat(context.getBean(ServerExchangeFactory.class).forPrefix("/users"),
+                            instanceOf(RestTemplateServerExchange.class));
+                });
+    }
+
+    @Test
+    void shouldExposePoolMetrics() {
+        contextRunner.run(context -> {
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            assertThat(registry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "shareit-server").gauge().value(), equalTo(200.0));
+            assertThat(registry.get("httpcomponents.httpclient.pool.total.connections")
+                    .tag("state", "leased").gauge().value(), equalTo(0.0));
+        });
+    }
+
+    @Test
+    void shouldUseWebClientInReactiveMode() {
+        contextRunner
+                .withPropertyValues("shareit-server.client=reactive")
+                .run(context -> {
+                    assertThat(context.getBeansOfType(PoolingHttpClientConnectionManager.class).size(), equalTo(0));
+                    assertThat(context.getBean(ServerExchangeFactory.class).forPrefix("/users"),
+                            instanceOf(WebClientServerExchange.class));
+                });
+    }
+}
\ No newline at end of file
@@ -10,10 +10,14 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import ru.practicum.shareit.ShareItGateway;
 import ru.practicum.shareit.features.item.model.CommentDto;
@@ -25,11 +29,9 @@ import java.time.temporal.ChronoUnit;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = ItemController.class)
-@MockBean(classes = ItemClient.class)
 @ContextConfiguration(classes = ShareItGateway.class)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 class ItemControllerTest {
@@ -37,6 +39,8 @@ class ItemControllerTest {
     ObjectMapper mapper;
     @Autowired
     MockMvc mvc;
+    @MockBean
+    ItemClient itemClient;
     ItemDto item;
     CommentDto comment;
 
@@ -53,6 +57,25 @@ class ItemControllerTest {
         comment.setCreated(comment.getCreated().truncatedTo(ChronoUnit.SECONDS));
     }
 
+    @Test
+    void shouldAnswerNotModifiedThenETagMatches() throws Exception {
+        String eTag = "\"0123\"";
+        Mockito
+                .when(itemClient.getItemDtoById(1L, 1L))
+                .thenReturn(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(eTag)
+                        .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        mvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void shouldNotPostItemThenNameIsNullOrBlank(String input) throws Exception {
@@ -10,10 +10,14 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.mockito.Mockito;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.ShareItGateway;
 import ru.practicum.shareit.features.user.model.UserDto;
 
@@ -22,11 +26,9 @@ import java.nio.charset.StandardCharsets;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = UserController.class)
-@MockBean(classes = UserClient.class)
 @ContextConfiguration(classes = ShareItGateway.class)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 class UserControllerTest {
@@ -34,6 +36,8 @@ class UserControllerTest {
     ObjectMapper mapper;
     @Autowired
     MockMvc mvc;
+    @MockBean
+    UserClient userClient;
     UserDto user;
 
     @BeforeEach
@@ -43,6 +47,39 @@ class UserControllerTest {
         user.setEmail("john_doe@email.com");
     }
 
+    @Test
+    void shouldProxyServerResponseSynchronouslyInBlockingMode() throws Exception {
+        byte[] body = "{\"id\":1,\"name\":\"John Doe\",\"email\":\"john_doe@email.com\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito
+                .when(userClient.getUserDtoById(1L))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body));
+
+        mvc.perform(get("/users/1"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name", is("John Doe")));
+    }
+
+    @Test
+    void shouldProxyServerResponseWithoutBlockingRequestThreadInReactiveMode() throws Exception {
+        byte[] body = "{\"id\":1,\"name\":\"John Doe\",\"email\":\"john_doe@email.com\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito
+                .when(userClient.getUserDtoById(1L))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body)));
+
+        MvcResult result = mvc.perform(get("/users/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name", is("John Doe")));
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void shouldNotPostUserThenNameIsNullOrBlank(String input) throws Exception {
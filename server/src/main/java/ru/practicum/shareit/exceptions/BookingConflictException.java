@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class BookingConflictException extends RuntimeException {
+    public BookingConflictException(final String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package ru.practicum.shareit.features.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.booking.model.BookingShortDto;
 import ru.practicum.shareit.features.booking.model.BookingDto;
+import ru.practicum.shareit.utility.CursorManager;
 
 import java.util.List;
 
@@ -21,19 +23,29 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getBookingsOfBooker(@RequestHeader(USER_ID_HEADER) Long bookerId,
-                                                @RequestParam(defaultValue = "ALL", required = false) String state,
-                                                @RequestParam(defaultValue = "0", required = false) Integer from,
-                                                @RequestParam(defaultValue = "10", required = false) Integer size) {
-        return bookingService.getBookingsOfBooker(bookerId, state, from, size);
+    public ResponseEntity<List<BookingDto>> getBookingsOfBooker(@RequestHeader(USER_ID_HEADER) Long bookerId,
+                                                                @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                                @RequestParam(defaultValue = "10", required = false) Integer size,
+                                                                @RequestParam(required = false) String after) {
+        if (after != null) {
+            return CursorManager.toResponse(bookingService.getBookingsOfBookerAfter(bookerId, state, after, size),
+                    booking -> CursorManager.encode(booking.getStart(), booking.getId()));
+        }
+        return ResponseEntity.ok(bookingService.getBookingsOfBooker(bookerId, state, from, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getBookingsOfOwner(@RequestHeader(USER_ID_HEADER) Long ownerId,
-                                               @RequestParam(defaultValue = "ALL", required = false) String state,
-                                               @RequestParam(defaultValue = "0", required = false) Integer from,
-                                               @RequestParam(defaultValue = "10", required = false) Integer size) {
-        return bookingService.getBookingsOfOwner(ownerId, state, from, size);
+    public ResponseEntity<List<BookingDto>> getBookingsOfOwner(@RequestHeader(USER_ID_HEADER) Long ownerId,
+                                                               @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                               @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                               @RequestParam(defaultValue = "10", required = false) Integer size,
+                                                               @RequestParam(required = false) String after) {
+        if (after != null) {
+            return CursorManager.toResponse(bookingService.getBookingsOfOwnerAfter(ownerId, state, after, size),
+                    booking -> CursorManager.encode(booking.getStart(), booking.getId()));
+        }
+        return ResponseEntity.ok(bookingService.getBookingsOfOwner(ownerId, state, from, size));
     }
 
     @PostMapping
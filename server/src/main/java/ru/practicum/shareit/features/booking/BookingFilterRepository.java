@@ -0,0 +1,24 @@
+package ru.practicum.shareit.features.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.features.booking.model.BookingFilter;
+import ru.practicum.shareit.features.booking.model.BookingView;
+
+import java.time.LocalDateTime;
+
+public interface BookingFilterRepository {
+    // Find bookings of booker within filter, ordered by start and id descending
+    Slice<BookingView> findBookerBookings(Long bookerId, BookingFilter filter, Pageable pageable);
+
+    // Find bookings of owner within filter, ordered by start and id descending
+    Slice<BookingView> findOwnerBookings(Long ownerId, BookingFilter filter, Pageable pageable);
+
+    // Find bookings of booker within filter after cursor (start, id)
+    Slice<BookingView> findBookerBookingsAfter(Long bookerId, BookingFilter filter,
+                                               LocalDateTime start, Long id, Pageable pageable);
+
+    // Find bookings of owner within filter after cursor (start, id)
+    Slice<BookingView> findOwnerBookingsAfter(Long ownerId, BookingFilter filter,
+                                              LocalDateTime start, Long id, Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.features.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.features.booking.model.Booking;
+import ru.practicum.shareit.features.booking.model.BookingFilter;
+import ru.practicum.shareit.features.booking.model.BookingView;
+import ru.practicum.shareit.features.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Only bounds set in the filter become predicates, so the booker/owner and status indexes are used as is.
+// Offset and cursor pages share one order, newest start first with id breaking ties
+public class BookingFilterRepositoryImpl implements BookingFilterRepository {
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<BookingView> findBookerBookings(Long bookerId, BookingFilter filter, Pageable pageable) {
+        return find(false, bookerId, filter, null, null, pageable);
+    }
+
+    @Override
+    public Slice<BookingView> findOwnerBookings(Long ownerId, BookingFilter filter, Pageable pageable) {
+        return find(true, ownerId, filter, null, null, pageable);
+    }
+
+    @Override
+    public Slice<BookingView> findBookerBookingsAfter(Long bookerId, BookingFilter filter,
+                                                      LocalDateTime start, Long id, Pageable pageable) {
+        return find(false, bookerId, filter, start, id, pageable);
+    }
+
+    @Override
+    public Slice<BookingView> findOwnerBookingsAfter(Long ownerId, BookingFilter filter,
+                                                     LocalDateTime start, Long id, Pageable pageable) {
+        return find(true, ownerId, filter, start, id, pageable);
+    }
+
+    private Slice<BookingView> find(boolean isOwner, Long userId, BookingFilter filter,
+                                    LocalDateTime afterStart, Long afterId, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Long> id = booking.get("id");
+        query.multiselect(
+                id.alias("id"),
+                start.alias("start"),
+                end.alias("end"),
+                booking.get("status").alias("status"),
+                booking.get("user").get("id").alias("bookerId"),
+                item.get("id").alias("itemId"),
+                item.get("name").alias("itemName"));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.equal(isOwner ? item.get("user").get("id") : booking.get("user").get("id"), userId));
+        if (filter.getStatuses() != null) {
+            predicates.add(booking.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getStartAfter() != null) {
+            predicates.add(builder.greaterThan(start, filter.getStartAfter()));
+        }
+        if (filter.getStartTo() != null) {
+            predicates.add(builder.lessThanOrEqualTo(start, filter.getStartTo()));
+        }
+        if (filter.getEndFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(end, filter.getEndFrom()));
+        }
+        if (filter.getEndBefore() != null) {
+            predicates.add(builder.lessThan(end, filter.getEndBefore()));
+        }
+        if (afterStart != null) {
+            predicates.add(builder.or(
+                    builder.lessThan(start, afterStart),
+                    builder.and(builder.equal(start, afterStart), builder.lessThan(id, afterId))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(builder.desc(start), builder.desc(id));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList().stream()
+                    .map(BookingFilterRepositoryImpl::toBookingView)
+                    .collect(Collectors.toList()));
+        }
+        List<Tuple> rows = typedQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<BookingView> bookings = rows.stream()
+                .limit(pageable.getPageSize())
+                .map(BookingFilterRepositoryImpl::toBookingView)
+                .collect(Collectors.toList());
+        return new SliceImpl<>(bookings, pageable, hasNext);
+    }
+
+    private static BookingView toBookingView(Tuple row) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : row.getElements()) {
+            values.put(element.getAlias(), row.get(element));
+        }
+        return PROJECTION_FACTORY.createProjection(BookingView.class, values);
+    }
+}
\ No newline at end of file
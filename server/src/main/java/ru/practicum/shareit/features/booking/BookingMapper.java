@@ -2,9 +2,13 @@ package ru.practicum.shareit.features.booking;
 
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.features.booking.model.Booking;
+import ru.practicum.shareit.features.booking.model.BookingQueue;
 import ru.practicum.shareit.features.booking.model.BookingQueueInfo;
 import ru.practicum.shareit.features.booking.model.BookingShortDto;
 import ru.practicum.shareit.features.booking.model.BookingDto;
+import ru.practicum.shareit.features.booking.model.BookingView;
+import ru.practicum.shareit.features.item.model.ItemShortDto;
+import ru.practicum.shareit.features.user.model.UserShortDto;
 
 @UtilityClass
 public class BookingMapper {
@@ -22,6 +26,19 @@ public class BookingMapper {
         bookingDto.setStart(booking.getStart());
         bookingDto.setEnd(booking.getEnd());
         bookingDto.setStatus(booking.getStatus());
+        bookingDto.setBooker(new UserShortDto(booking.getUser().getId()));
+        bookingDto.setItem(new ItemShortDto(booking.getItem().getId(), booking.getItem().getName()));
+        return bookingDto;
+    }
+
+    public BookingDto toBookingDto(BookingView bookingView) {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setId(bookingView.getId());
+        bookingDto.setStart(bookingView.getStart());
+        bookingDto.setEnd(bookingView.getEnd());
+        bookingDto.setStatus(bookingView.getStatus());
+        bookingDto.setBooker(new UserShortDto(bookingView.getBookerId()));
+        bookingDto.setItem(new ItemShortDto(bookingView.getItemId(), bookingView.getItemName()));
         return bookingDto;
     }
 
@@ -31,4 +48,11 @@ public class BookingMapper {
         bQueueInfo.setBookerId(booking.getUser().getId());
         return bQueueInfo;
     }
+
+    public BookingQueueInfo toBookingQueue(BookingQueue bookingQueue) {
+        BookingQueueInfo bQueueInfo = new BookingQueueInfo();
+        bQueueInfo.setId(bookingQueue.getId());
+        bQueueInfo.setBookerId(bookingQueue.getBookerId());
+        return bQueueInfo;
+    }
 }
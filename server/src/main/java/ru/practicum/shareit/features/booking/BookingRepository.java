@@ -1,53 +1,61 @@
 package ru.practicum.shareit.features.booking;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import ru.practicum.shareit.features.booking.model.Booking;
-import ru.practicum.shareit.features.booking.model.BookingStatus;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.features.booking.model.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-
-    // Find ALL bookings of booker
-    Page<Booking> findAllByUserIdOrderByStartDesc(Long bookerId, Pageable pageable);
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingFilterRepository {
+    // Find booking with item for booking card
+    @EntityGraph("Booking.withItem")
+    Optional<Booking> findById(Long id);
+
+    // Check for item bookings with other than given statuses overlapping period (start, end)
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END " +
+            "FROM Booking b " +
+            "WHERE b.item.id = ?1 AND b.status NOT IN ?2 AND b.start < ?3 AND b.end > ?4")
+    boolean existsByItemIdAndStatusNotInAndStartBeforeAndEndAfter(Long itemId,
+                                                                 Collection<BookingStatus> statuses,
+                                                                 LocalDateTime end,
+                                                                 LocalDateTime start);
 
     // Find booking of booker for item
+    @Query("SELECT b " +
+            "FROM Booking b " +
+            "WHERE b.user.id = ?1 AND b.item.id = ?2 " +
+            "ORDER BY b.start")
     List<Booking> findByUserIdAndItemIdOrderByStartAsc(Long bookerId, Long itemId);
 
-    // Find all bookings for item
-    List<Booking> findAllByItemIdOrderByStartAsc(Long itemId);
-
-    // Find PAST bookings of booker
-    Page<Booking> findAllByUserIdAndEndIsBeforeOrderByStartDesc(Long bookerId, Pageable pageable, LocalDateTime localDateTime);
-
-    // Find CURRENT bookings of booker
-    Page<Booking> findAllByUserIdAndStartLessThanEqualAndEndGreaterThanEqualOrderById(Long bookerId, Pageable pageable, LocalDateTime from, LocalDateTime to);
-
-    // Find FUTURE bookings of booker
-    Page<Booking> findAllByUserIdAndStartIsAfterOrderByStartDesc(Long bookerId, Pageable pageable, LocalDateTime localDateTime);
-
-    // Find bookings of booker with status
-    Page<Booking> findAllByUserIdAndStatusIsOrderByStartDesc(Long bookerId, Pageable pageable, BookingStatus bookingStatus);
-
-    // Find ALL bookings of owner
-    Page<Booking> findAllByItemUserIdOrderByStartDesc(Long ownerId, Pageable pageable);
-
-    // Find PAST bookings of owner
-    Page<Booking> findAllByItemUserIdAndEndIsBeforeOrderByStartDesc(Long ownerId, Pageable pageable, LocalDateTime localDateTime);
-
-    // Find CURRENT bookings of owner
-    Page<Booking> findAllByItemUserIdAndStartLessThanEqualAndEndGreaterThanEqualOrderById(Long ownerId, Pageable pageable, LocalDateTime from, LocalDateTime to);
-
-    // Find FUTURE bookings of owner
-    Page<Booking> findAllByItemUserIdAndStartIsAfterOrderByStartDesc(Long ownerId, Pageable pageable, LocalDateTime localDateTime);
-
-    // Find bookings of owner with status
-    Page<Booking> findAllByItemUserIdAndStatusIsOrderByStartDesc(Long ownerId, Pageable pageable, BookingStatus bookingStatus);
+    // Find last started booking for several items, one per item, the highest id wins a tie on start
+    @Query(value = "SELECT b.booking_id AS \"id\", b.item_id AS \"itemId\", b.booker_id AS \"bookerId\" " +
+            "FROM (SELECT booking_id, item_id, booker_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY item_id ORDER BY start_date DESC, booking_id DESC) AS item_rank " +
+            "FROM bookings " +
+            "WHERE item_id IN :itemIds AND status <> :#{#excludedStatus.name()} AND start_date < :now) b " +
+            "WHERE b.item_rank = 1",
+            nativeQuery = true)
+    List<BookingQueue> findLastBookings(@Param("itemIds") Collection<Long> itemIds,
+                                        @Param("now") LocalDateTime localDateTime,
+                                        @Param("excludedStatus") BookingStatus excludedStatus);
+
+    // Find next upcoming booking for several items, one per item, the lowest id wins a tie on start
+    @Query(value = "SELECT b.booking_id AS \"id\", b.item_id AS \"itemId\", b.booker_id AS \"bookerId\" " +
+            "FROM (SELECT booking_id, item_id, booker_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY item_id ORDER BY start_date, booking_id) AS item_rank " +
+            "FROM bookings " +
+            "WHERE item_id IN :itemIds AND status <> :#{#excludedStatus.name()} AND start_date > :now) b " +
+            "WHERE b.item_rank = 1",
+            nativeQuery = true)
+    List<BookingQueue> findNextBookings(@Param("itemIds") Collection<Long> itemIds,
+                                        @Param("now") LocalDateTime localDateTime,
+                                        @Param("excludedStatus") BookingStatus excludedStatus);
 
     // Patch booking status
     @Modifying(clearAutomatically = true)
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.features.booking;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.booking.model.BookingShortDto;
 import ru.practicum.shareit.features.booking.model.BookingDto;
 
@@ -12,6 +13,10 @@ public interface BookingService {
 
     List<BookingDto> getBookingsOfOwner(Long ownerId, String state, Integer from, Integer size);
 
+    Slice<BookingDto> getBookingsOfBookerAfter(Long bookerId, String state, String after, Integer size);
+
+    Slice<BookingDto> getBookingsOfOwnerAfter(Long ownerId, String state, String after, Integer size);
+
     BookingDto create(Long bookerId, BookingShortDto bookingDto);
 
     BookingDto patch(Long ownerId, Long bookingId, Boolean approved);
@@ -2,11 +2,13 @@ package ru.practicum.shareit.features.booking;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.EnumUtils;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
+import ru.practicum.shareit.exceptions.BookingConflictException;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.exceptions.WrongStateArgumentException;
 import ru.practicum.shareit.features.booking.model.*;
@@ -14,8 +16,12 @@ import ru.practicum.shareit.features.item.ItemService;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.user.UserService;
 import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.Cursor;
+import ru.practicum.shareit.utility.CursorManager;
 import ru.practicum.shareit.utility.PageManager;
+import ru.practicum.shareit.utility.StripedLock;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,9 +29,13 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+    private static final int ITEM_LOCK_STRIPES = 64;
+    private static final List<BookingStatus> INACTIVE_STATUSES = List.of(BookingStatus.REJECTED, BookingStatus.CANCELED);
+    private static final String EXCLUSION_VIOLATION = "23P01";
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final ItemService itemService;
+    private final StripedLock itemLocks = new StripedLock(ITEM_LOCK_STRIPES);
 
     @Override
     public BookingDto getBookingById(Long userId, Long bookingId) {
@@ -33,7 +43,7 @@ public class BookingServiceImpl implements BookingService {
         User booker = booking.getUser();
         User ownerItem = booking.getItem().getUser();
         if (booker.getId().equals(userId) || ownerItem.getId().equals(userId)) {
-            return mapToBookingDto(booking);
+            return BookingMapper.toBookingDto(booking);
         } else {
             throw new ArgumentNotFoundException("User id=" + userId + " is not the booker/owner of item id=" +
                     booking.getItem().getId() + " or the specified item does not exist");
@@ -43,43 +53,29 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public List<BookingDto> getBookingsOfBooker(Long bookerId, String state, Integer from, Integer size) {
         userService.validateUserId(bookerId);
-        Pageable pageable = PageManager.getPageable(from, size);
-        switch (getState(state)) {
-            case PAST:
-                return mapToBookingDtoList(bookingRepository.findAllByUserIdAndEndIsBeforeOrderByStartDesc(bookerId, pageable, LocalDateTime.now()));
-            case CURRENT:
-                return mapToBookingDtoList(bookingRepository
-                        .findAllByUserIdAndStartLessThanEqualAndEndGreaterThanEqualOrderById(bookerId, pageable, LocalDateTime.now(), LocalDateTime.now()));
-            case FUTURE:
-                return mapToBookingDtoList(bookingRepository.findAllByUserIdAndStartIsAfterOrderByStartDesc(bookerId, pageable, LocalDateTime.now()));
-            case WAITING:
-                return mapToBookingDtoList(bookingRepository.findAllByUserIdAndStatusIsOrderByStartDesc(bookerId, pageable, BookingStatus.WAITING));
-            case REJECTED:
-                return mapToBookingDtoList(bookingRepository.findAllByUserIdAndStatusIsOrderByStartDesc(bookerId, pageable, BookingStatus.REJECTED));
-            default:
-                return mapToBookingDtoList(bookingRepository.findAllByUserIdOrderByStartDesc(bookerId, pageable));
-        }
+        BookingFilter filter = BookingFilter.of(getState(state), LocalDateTime.now());
+        return mapToBookingDtoList(bookingRepository.findBookerBookings(
+                bookerId, filter, PageManager.getPageable(from, size)));
     }
 
     @Override
     public List<BookingDto> getBookingsOfOwner(Long ownerId, String state, Integer from, Integer size) {
         userService.validateUserId(ownerId);
-        Pageable pageable = PageManager.getPageable(from, size);
-        switch (getState(state)) {
-            case PAST:
-                return mapToBookingDtoList(bookingRepository.findAllByItemUserIdAndEndIsBeforeOrderByStartDesc(ownerId, pageable, LocalDateTime.now()));
-            case CURRENT:
-                return mapToBookingDtoList(bookingRepository
-                        .findAllByItemUserIdAndStartLessThanEqualAndEndGreaterThanEqualOrderById(ownerId, pageable, LocalDateTime.now(), LocalDateTime.now()));
-            case FUTURE:
-                return mapToBookingDtoList(bookingRepository.findAllByItemUserIdAndStartIsAfterOrderByStartDesc(ownerId, pageable, LocalDateTime.now()));
-            case WAITING:
-                return mapToBookingDtoList(bookingRepository.findAllByItemUserIdAndStatusIsOrderByStartDesc(ownerId, pageable, BookingStatus.WAITING));
-            case REJECTED:
-                return mapToBookingDtoList(bookingRepository.findAllByItemUserIdAndStatusIsOrderByStartDesc(ownerId, pageable, BookingStatus.REJECTED));
-            default:
-                return mapToBookingDtoList(bookingRepository.findAllByItemUserIdOrderByStartDesc(ownerId, pageable));
-        }
+        BookingFilter filter = BookingFilter.of(getState(state), LocalDateTime.now());
+        return mapToBookingDtoList(bookingRepository.findOwnerBookings(
+                ownerId, filter, PageManager.getPageable(from, size)));
+    }
+
+    @Override
+    public Slice<BookingDto> getBookingsOfBookerAfter(Long bookerId, String state, String after, Integer size) {
+        userService.validateUserId(bookerId);
+        return getBookingsAfter(bookerId, false, getState(state), after, size);
+    }
+
+    @Override
+    public Slice<BookingDto> getBookingsOfOwnerAfter(Long ownerId, String state, String after, Integer size) {
+        userService.validateUserId(ownerId);
+        return getBookingsAfter(ownerId, true, getState(state), after, size);
     }
 
     @Transactional
@@ -92,11 +88,22 @@ public class BookingServiceImpl implements BookingService {
         }
         validateItemAvailable(item);
         validateTimestamps(bookingDto);
+        // The lock only serializes creators within this JVM. On PostgreSQL the bookings_item_period_excl
+        // EXCLUDE constraint is the real guard across instances, its violation is reported as the same conflict
+        itemLocks.lockUntilCompletion(item.getId());
+        validateFreePeriod(item.getId(), bookingDto);
         Booking booking = BookingMapper.toBooking(bookingDto);
         booking.setUser(userService.getUserById(bookerId));
         booking.setItem(item);
         booking.setStatus(BookingStatus.WAITING);
-        return mapToBookingDto(bookingRepository.save(booking));
+        try {
+            return BookingMapper.toBookingDto(bookingRepository.saveAndFlush(booking));
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw getBookedPeriodException(item.getId());
+            }
+            throw e;
+        }
     }
 
     @Transactional
@@ -114,7 +121,7 @@ public class BookingServiceImpl implements BookingService {
             booking.setStatus(BookingStatus.REJECTED);
         }
         bookingRepository.patch(bookingId, booking.getStatus());
-        return mapToBookingDto(getBookingById(bookingId));
+        return BookingMapper.toBookingDto(getBookingById(bookingId));
     }
 
     private Booking getBookingById(Long id) {
@@ -122,15 +129,18 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new ArgumentNotFoundException("The specified booking id=" + id + " does not exist"));
     }
 
-    private BookingDto mapToBookingDto(Booking booking) {
-        BookingDto bookingDto = BookingMapper.toBookingDto(booking);
-        bookingDto.setBooker(userService.getUserShortById(booking.getUser().getId()));
-        bookingDto.setItem(itemService.getItemShortById(booking.getItem().getId()));
-        return bookingDto;
+    private Slice<BookingDto> getBookingsAfter(Long userId, boolean isOwner, State state, String after, Integer size) {
+        Cursor cursor = CursorManager.decodeTimestampId(after);
+        Pageable pageable = CursorManager.getPageable(size);
+        BookingFilter filter = BookingFilter.of(state, LocalDateTime.now());
+        Slice<BookingView> bookings = isOwner
+                ? bookingRepository.findOwnerBookingsAfter(userId, filter, cursor.getTimestamp(), cursor.getId(), pageable)
+                : bookingRepository.findBookerBookingsAfter(userId, filter, cursor.getTimestamp(), cursor.getId(), pageable);
+        return bookings.map(BookingMapper::toBookingDto);
     }
 
-    private List<BookingDto> mapToBookingDtoList(Page<Booking> bookings) {
-        return bookings.map(this::mapToBookingDto).getContent();
+    private List<BookingDto> mapToBookingDtoList(Slice<BookingView> bookings) {
+        return bookings.map(BookingMapper::toBookingDto).getContent();
     }
 
     private boolean isOwnerOfItem(Long ownerId, Item item) {
@@ -143,6 +153,24 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    // Reject period overlapping active booking of item, the database constraint backs this check up on PostgreSQL
+    private void validateFreePeriod(Long itemId, BookingShortDto bookingDto) {
+        if (bookingRepository.existsByItemIdAndStatusNotInAndStartBeforeAndEndAfter(
+                itemId, INACTIVE_STATUSES, bookingDto.getEnd(), bookingDto.getStart())) {
+            throw getBookedPeriodException(itemId);
+        }
+    }
+
+    private BookingConflictException getBookedPeriodException(Long itemId) {
+        return new BookingConflictException("The specified item id=" + itemId +
+                " is already booked for the specified period");
+    }
+
+    private boolean isExclusionViolation(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException && EXCLUSION_VIOLATION.equals(((SQLException) cause).getSQLState());
+    }
+
     private void validateTimestamps(BookingShortDto bookingDto) {
         LocalDateTime start = bookingDto.getStart();
         LocalDateTime end = bookingDto.getEnd();
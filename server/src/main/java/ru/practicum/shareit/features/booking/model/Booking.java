@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "bookings", schema = "public")
+@NamedEntityGraph(name = "Booking.withItem", attributeNodes = @NamedAttributeNode("item"))
 @Getter
 @Setter
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -30,11 +31,11 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     BookingStatus status;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "booker_id", nullable = false)
     User user;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", nullable = false)
     Item item;
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.features.booking.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+
+// Bounds of booking listing for state, null means the listing is not restricted by the field
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingFilter {
+    Collection<BookingStatus> statuses;
+    // Exclusive lower bound of start
+    LocalDateTime startAfter;
+    // Inclusive upper bound of start
+    LocalDateTime startTo;
+    // Inclusive lower bound of end
+    LocalDateTime endFrom;
+    // Exclusive upper bound of end
+    LocalDateTime endBefore;
+
+    public static BookingFilter of(State state, LocalDateTime now) {
+        BookingFilter filter = new BookingFilter();
+        switch (state) {
+            case PAST:
+                filter.endBefore = now;
+                break;
+            case CURRENT:
+                filter.startTo = now;
+                filter.endFrom = now;
+                break;
+            case FUTURE:
+                filter.startAfter = now;
+                break;
+            case WAITING:
+                filter.statuses = EnumSet.of(BookingStatus.WAITING);
+                break;
+            case REJECTED:
+                filter.statuses = EnumSet.of(BookingStatus.REJECTED);
+                break;
+            default:
+                break;
+        }
+        return filter;
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.features.booking.model;
+
+public interface BookingQueue {
+
+    Long getId();
+
+    Long getItemId();
+
+    Long getBookerId();
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.features.booking.model;
+
+import java.time.LocalDateTime;
+
+public interface BookingView {
+
+    Long getId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+
+    BookingStatus getStatus();
+
+    Long getBookerId();
+
+    Long getItemId();
+
+    String getItemName();
+}
\ No newline at end of file
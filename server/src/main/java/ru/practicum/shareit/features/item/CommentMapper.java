@@ -3,6 +3,7 @@ package ru.practicum.shareit.features.item;
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.features.item.model.Comment;
 import ru.practicum.shareit.features.item.model.CommentDto;
+import ru.practicum.shareit.features.item.model.CommentView;
 
 @UtilityClass
 public class CommentMapper {
@@ -16,6 +17,15 @@ public class CommentMapper {
         return commentDto;
     }
 
+    public CommentDto toCommentDto(CommentView commentView) {
+        CommentDto commentDto = new CommentDto();
+        commentDto.setId(commentView.getId());
+        commentDto.setText(commentView.getText());
+        commentDto.setAuthorName(commentView.getAuthorName());
+        commentDto.setCreated(commentView.getCreated());
+        return commentDto;
+    }
+
     public Comment toComment(CommentDto commentDto) {
         Comment comment = new Comment();
         comment.setText(commentDto.getText());
@@ -1,12 +1,36 @@
 package ru.practicum.shareit.features.item;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.features.item.model.Comment;
+import ru.practicum.shareit.features.item.model.CommentView;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // Find all comments for item
-    List<Comment> findByItemId(Long itemId);
+    // Find newest comment rows with author names for several items, at most limit rows per item
+    @Query(value = "SELECT c.comment_id AS \"id\", c.item_id AS \"itemId\", c.content AS \"text\", " +
+            "u.user_name AS \"authorName\", c.creation_date AS \"created\" " +
+            "FROM (SELECT comment_id, item_id, content, author_id, creation_date, " +
+            "ROW_NUMBER() OVER (PARTITION BY item_id ORDER BY creation_date DESC, comment_id DESC) AS item_rank " +
+            "FROM comments " +
+            "WHERE item_id IN :itemIds) c " +
+            "JOIN users u ON u.user_id = c.author_id " +
+            "WHERE c.item_rank <= :limit " +
+            "ORDER BY c.item_id, c.item_rank",
+            nativeQuery = true)
+    List<CommentView> findLatestByItemIdIn(@Param("itemIds") Collection<Long> itemIds,
+                                           @Param("limit") int limit);
+
+    // Find comment rows with author names for item, newest first
+    @Query("SELECT c.id AS id, c.item.id AS itemId, c.text AS text, u.name AS authorName, c.created AS created " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.item.id = ?1 " +
+            "ORDER BY c.created DESC, c.id DESC")
+    Slice<CommentView> findByItemId(Long itemId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package ru.practicum.shareit.features.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.item.model.CommentDto;
 import ru.practicum.shareit.features.item.model.ItemDto;
+import ru.practicum.shareit.utility.CursorManager;
 
 import java.util.List;
 
@@ -15,10 +17,15 @@ public class ItemController {
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
     @GetMapping
-    public List<ItemDto> getAllOwnerItems(@RequestHeader(USER_ID_HEADER) Long ownerId,
-                                          @RequestParam(defaultValue = "0", required = false) Integer from,
-                                          @RequestParam(defaultValue = "10", required = false) Integer size) {
-        return itemService.getAllOwnerItems(ownerId, from, size);
+    public ResponseEntity<List<ItemDto>> getAllOwnerItems(@RequestHeader(USER_ID_HEADER) Long ownerId,
+                                                          @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                          @RequestParam(defaultValue = "10", required = false) Integer size,
+                                                          @RequestParam(required = false) String after) {
+        if (after != null) {
+            return CursorManager.toResponse(itemService.getAllOwnerItemsAfter(ownerId, after, size),
+                    item -> CursorManager.encode(item.getId()));
+        }
+        return ResponseEntity.ok(itemService.getAllOwnerItems(ownerId, from, size));
     }
 
     @GetMapping("/{id}")
@@ -27,6 +34,14 @@ public class ItemController {
         return itemService.getItemDtoById(userId, id);
     }
 
+    @GetMapping("/{id}/comments")
+    public List<CommentDto> getComments(@RequestHeader(USER_ID_HEADER) Long userId,
+                                        @PathVariable Long id,
+                                        @RequestParam(defaultValue = "0", required = false) Integer from,
+                                        @RequestParam(defaultValue = "10", required = false) Integer size) {
+        return itemService.getComments(userId, id, from, size);
+    }
+
     @GetMapping("/search")
     public List<ItemDto> getSearch(@RequestHeader(USER_ID_HEADER) Long userId,
                                    @RequestParam("text") String text,
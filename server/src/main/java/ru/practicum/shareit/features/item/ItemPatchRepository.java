@@ -0,0 +1,15 @@
+package ru.practicum.shareit.features.item;
+
+import ru.practicum.shareit.features.item.model.Item;
+
+import java.util.Optional;
+
+public interface ItemPatchRepository {
+
+    // Patch owner item, null values keep current data, returns patched item or empty if not owned
+    Optional<Item> patch(Long ownerId,
+                         Long itemId,
+                         String name,
+                         String description,
+                         Boolean available);
+}
\ No newline at end of file
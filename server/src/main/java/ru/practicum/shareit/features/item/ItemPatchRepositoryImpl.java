@@ -0,0 +1,65 @@
+package ru.practicum.shareit.features.item;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import ru.practicum.shareit.features.item.model.Item;
+import ru.practicum.shareit.features.request.model.ItemRequest;
+import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.ReturningUpdate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+
+public class ItemPatchRepositoryImpl implements ItemPatchRepository {
+    private static final String UPDATE = "UPDATE items " +
+            "SET item_name = COALESCE(:name, item_name), " +
+            "description = COALESCE(:description, description), " +
+            "available = COALESCE(:available, available) " +
+            "WHERE item_id = :itemId AND owner_id = :ownerId";
+    private static final String COLUMNS = "item_id, item_name, description, available, request_id";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Item> patch(Long ownerId, Long itemId, String name, String description, Boolean available) {
+        List<Object[]> rows = entityManager.createNativeQuery(ReturningUpdate.of(entityManager, UPDATE, COLUMNS))
+                .unwrap(NativeQuery.class)
+                .setParameter("name", name, StringType.INSTANCE)
+                .setParameter("description", description, StringType.INSTANCE)
+                .setParameter("available", available, BooleanType.INSTANCE)
+                .setParameter("itemId", itemId, LongType.INSTANCE)
+                .setParameter("ownerId", ownerId, LongType.INSTANCE)
+                .addScalar("item_id", LongType.INSTANCE)
+                .addScalar("item_name", StringType.INSTANCE)
+                .addScalar("description", StringType.INSTANCE)
+                .addScalar("available", BooleanType.INSTANCE)
+                .addScalar("request_id", LongType.INSTANCE)
+                .getResultList();
+        ReturningUpdate.evict(entityManager, Item.class, itemId);
+        return rows.stream()
+                .findFirst()
+                .map(row -> toItem(ownerId, row));
+    }
+
+    private Item toItem(Long ownerId, Object[] row) {
+        Item item = new Item();
+        item.setId((Long) row[0]);
+        item.setName((String) row[1]);
+        item.setDescription((String) row[2]);
+        item.setAvailable((Boolean) row[3]);
+        User owner = new User();
+        owner.setId(ownerId);
+        item.setUser(owner);
+        if (row[4] != null) {
+            ItemRequest itemRequest = new ItemRequest();
+            itemRequest.setId((Long) row[4]);
+            item.setItemRequest(itemRequest);
+        }
+        return item;
+    }
+}
\ No newline at end of file
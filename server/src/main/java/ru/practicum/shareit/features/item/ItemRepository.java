@@ -1,44 +1,51 @@
 package ru.practicum.shareit.features.item;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.item.model.ItemForRequest;
-import ru.practicum.shareit.features.item.model.ItemShort;
+import ru.practicum.shareit.features.item.model.ItemForSearch;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemPatchRepository {
+    String SELECT_ITEM_FOR_REQUEST = "SELECT i.id AS id, i.name AS name, i.description AS description, " +
+            "i.available AS available, i.itemRequest.id AS requestId " +
+            "FROM Item i ";
+    // Matched field order of search: items matching by name, then by description only, each by id.
+    // It is not a relevance rank, how well the text matches is not scored
+    String ORDER_BY_MATCHED_FIELD_AND_ID = "ORDER BY CASE WHEN UPPER(i.name) like UPPER(CONCAT('%', ?1, '%')) " +
+            "THEN 0 ELSE 1 END, i.id";
 
     // Find all items for request
+    @Query(SELECT_ITEM_FOR_REQUEST + "WHERE i.itemRequest.id = ?1")
     List<ItemForRequest> findByItemRequestId(Long requestId);
 
-    // Find itemShort
-    Optional<ItemShort> findItemById(Long id);
+    // Find all items for several requests
+    @Query(SELECT_ITEM_FOR_REQUEST + "WHERE i.itemRequest.id IN ?1")
+    List<ItemForRequest> findByItemRequestIdIn(Collection<Long> requestIds);
+
+    // Find all available items for search index
+    List<ItemForSearch> findByAvailableTrue();
 
     // Find all owner items
-    Page<Item> findByUserIdOrderById(Long ownerId, Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.user.id = ?1 ORDER BY i.id")
+    Slice<Item> findByUserIdOrderById(Long ownerId, Pageable pageable);
+
+    // Find owner items after cursor (id)
+    @Query("SELECT i FROM Item i WHERE i.user.id = ?1 AND i.id > ?2 ORDER BY i.id")
+    Slice<Item> findByUserIdAndIdGreaterThanOrderById(Long ownerId, Long id, Pageable pageable);
 
-    // Search for text among items
+    // Search for text among available items in matched field order
     @Query("SELECT i " +
             "FROM Item i " +
             "WHERE i.available = true " +
             "AND (UPPER(i.name) like UPPER(CONCAT('%', ?1, '%')) " +
-            "OR UPPER(i.description) like UPPER(CONCAT('%', ?1, '%')))")
-    Page<Item> getSearch(String text, Pageable pageable);
-
-    // Patch item
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Item i " +
-            "SET i.name = ?3, i.description = ?4, i.available = ?5 " +
-            "WHERE i.user.id = ?1 AND i.id = ?2")
-    void patch(Long ownerId,
-               Long itemId,
-               String name,
-               String description,
-               Boolean available);
+            "OR UPPER(i.description) like UPPER(CONCAT('%', ?1, '%'))) " +
+            ORDER_BY_MATCHED_FIELD_AND_ID)
+    Slice<Item> getSearch(String text, Pageable pageable);
+
 }
\ No newline at end of file
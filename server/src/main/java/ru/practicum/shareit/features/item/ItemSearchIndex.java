@@ -0,0 +1,252 @@
+package ru.practicum.shareit.features.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.features.item.model.Item;
+import ru.practicum.shareit.features.item.model.ItemForSearch;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory trigram index of available items: trigram -> sorted item ids
+@Component
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final Map<String, long[]> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @Autowired
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    // Searches go to the database until the first build has completed
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Reads the snapshot under the write lock, so updates committed meanwhile are applied after it, not lost
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<ItemForSearch> items = itemRepository.findByAvailableTrue();
+            Map<String, List<Long>> grams = new HashMap<>();
+            postings.clear();
+            documents.clear();
+            for (ItemForSearch item : items) {
+                for (String gram : putDocument(item.getId(), item.getName(), item.getDescription())) {
+                    grams.computeIfAbsent(gram, key -> new ArrayList<>()).add(item.getId());
+                }
+            }
+            grams.forEach((gram, ids) -> postings.put(gram, ids.stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray()));
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+        Long id = item.getId();
+        String name = item.getName();
+        String description = item.getDescription();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(id);
+                if (available) {
+                    add(id, name, description);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void delete(Long itemId) {
+        if (enabled) {
+            afterCommit(() -> remove(itemId));
+        }
+    }
+
+    // Find ids of items containing text in the matched field order of ItemRepository.getSearch
+    public List<Long> search(String text, long offset, int size) {
+        String query = normalize(text);
+        List<Long> nameMatches = new ArrayList<>();
+        List<Long> descriptionMatches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long id : getCandidates(query)) {
+                String[] document = documents.get(id);
+                if (document[0].contains(query)) {
+                    nameMatches.add(id);
+                } else if (document[1].contains(query)) {
+                    descriptionMatches.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        nameMatches.addAll(descriptionMatches);
+        if (offset >= nameMatches.size()) {
+            return new ArrayList<>();
+        }
+        return nameMatches.subList((int) offset, (int) Math.min(offset + size, nameMatches.size()));
+    }
+
+    private long[] getCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return documents.keySet().stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+        }
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : getGrams(query)) {
+            long[] list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        long[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        return candidates;
+    }
+
+    private void add(Long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            putDocument(id, name, description)
+                    .forEach(gram -> postings.put(gram, insert(postings.get(gram), id)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<String> putDocument(Long id, String name, String description) {
+        String[] document = {normalize(name), normalize(description)};
+        documents.put(id, document);
+        Set<String> grams = getGrams(document[0]);
+        grams.addAll(getGrams(document[1]));
+        return grams;
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            String[] document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            Set<String> grams = getGrams(document[0]);
+            grams.addAll(getGrams(document[1]));
+            for (String gram : grams) {
+                long[] list = delete(postings.get(gram), id);
+                if (list.length == 0) {
+                    postings.remove(gram);
+                } else {
+                    postings.put(gram, list);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static long[] insert(long[] list, long id) {
+        if (list == null) {
+            return new long[]{id};
+        }
+        int index = Arrays.binarySearch(list, id);
+        if (index >= 0) {
+            return list;
+        }
+        int position = -index - 1;
+        long[] result = new long[list.length + 1];
+        System.arraycopy(list, 0, result, 0, position);
+        result[position] = id;
+        System.arraycopy(list, position, result, position + 1, list.length - position);
+        return result;
+    }
+
+    private static long[] delete(long[] list, long id) {
+        int index = Arrays.binarySearch(list, id);
+        if (index < 0) {
+            return list;
+        }
+        long[] result = new long[list.length - 1];
+        System.arraycopy(list, 0, result, 0, index);
+        System.arraycopy(list, index + 1, result, index, list.length - index - 1);
+        return result;
+    }
+
+    private static long[] intersect(long[] first, long[] second) {
+        long[] result = new long[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
\ No newline at end of file
@@ -1,21 +1,27 @@
 package ru.practicum.shareit.features.item;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.item.model.*;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemService {
 
     List<ItemDto> getAllOwnerItems(Long ownerId, Integer from, Integer size);
 
+    Slice<ItemDto> getAllOwnerItemsAfter(Long ownerId, String after, Integer size);
+
     Item getItemById(Long itemId);
 
     ItemDto getItemDtoById(Long userId, Long itemId);
 
-    ItemShortDto getItemShortById(Long itemId);
-
     List<ItemForRequestDto> getItemsForRequest(Long requestId);
 
+    List<ItemForRequestDto> getItemsForRequests(Collection<Long> requestIds);
+
+    List<CommentDto> getComments(Long userId, Long itemId, Integer from, Integer size);
+
     List<ItemDto> getSearch(Long userId, String text, Integer from, Integer size);
 
     ItemDto create(Long ownerId, ItemDto itemDto);
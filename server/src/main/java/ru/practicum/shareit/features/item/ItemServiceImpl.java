@@ -1,11 +1,9 @@
 package ru.practicum.shareit.features.item;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
@@ -13,21 +11,26 @@ import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.features.booking.BookingMapper;
 import ru.practicum.shareit.features.booking.BookingRepository;
 import ru.practicum.shareit.features.booking.model.Booking;
+import ru.practicum.shareit.features.booking.model.BookingQueue;
+import ru.practicum.shareit.features.booking.model.BookingQueueInfo;
 import ru.practicum.shareit.features.booking.model.BookingStatus;
 import ru.practicum.shareit.features.item.model.*;
 import ru.practicum.shareit.features.request.ItemRequestRepository;
 import ru.practicum.shareit.features.user.UserService;
+import ru.practicum.shareit.utility.CursorManager;
 import ru.practicum.shareit.utility.ItemValidator;
+import ru.practicum.shareit.utility.JsonMergePatcher;
 import ru.practicum.shareit.utility.PageManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
@@ -35,14 +38,46 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final UserService userService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final int commentsLimit;
+
+    @Autowired
+    public ItemServiceImpl(ItemRepository itemRepository,
+                           ItemRequestRepository itemRequestRepository,
+                           CommentRepository commentRepository,
+                           BookingRepository bookingRepository,
+                           UserService userService,
+                           ItemSearchIndex itemSearchIndex,
+                           JsonMergePatcher jsonMergePatcher,
+                           @Value("${shareit.item.comments.limit:10}") int commentsLimit) {
+        this.itemRepository = itemRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.commentRepository = commentRepository;
+        this.bookingRepository = bookingRepository;
+        this.userService = userService;
+        this.itemSearchIndex = itemSearchIndex;
+        this.jsonMergePatcher = jsonMergePatcher;
+        this.commentsLimit = commentsLimit;
+    }
 
     @Override
     public List<ItemDto> getAllOwnerItems(Long ownerId, Integer from, Integer size) {
-        return itemRepository.findByUserIdOrderById(ownerId, PageManager.getPageable(from, size)).stream()
+        List<ItemDto> itemDtoList = itemRepository.findByUserIdOrderById(ownerId, PageManager.getPageable(from, size))
+                .stream()
                 .map(ItemMapper::toItemDto)
-                .map(this::setCommentsForItemDto)
-                .peek(this::setBookingsForItemDto)
                 .collect(Collectors.toList());
+        setDetailsForOwnerItemDtoList(itemDtoList);
+        return itemDtoList;
+    }
+
+    @Override
+    public Slice<ItemDto> getAllOwnerItemsAfter(Long ownerId, String after, Integer size) {
+        Slice<ItemDto> itemDtoSlice = itemRepository.findByUserIdAndIdGreaterThanOrderById(
+                        ownerId, CursorManager.decodeId(after), CursorManager.getPageable(size))
+                .map(ItemMapper::toItemDto);
+        setDetailsForOwnerItemDtoList(itemDtoSlice.getContent());
+        return itemDtoSlice;
     }
 
     @Override
@@ -56,11 +91,26 @@ public class ItemServiceImpl implements ItemService {
         return itemDto;
     }
 
+    @Override
+    public List<CommentDto> getComments(Long userId, Long itemId, Integer from, Integer size) {
+        userService.validateUserId(userId);
+        if (!itemRepository.existsById(itemId)) {
+            throw new ArgumentNotFoundException("The specified item id=" + itemId + " does not exist");
+        }
+        return commentRepository.findByItemId(itemId, PageManager.getPageable(from, size)).stream()
+                .map(CommentMapper::toCommentDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<ItemDto> getSearch(Long userId, String text, Integer from, Integer size) {
         userService.validateUserId(userId);
         if (!text.isBlank()) {
-            return itemRepository.getSearch(text, PageManager.getPageable(from, size)).stream()
+            Pageable pageable = PageManager.getPageable(from, size);
+            if (itemSearchIndex.isReady()) {
+                return getIndexedSearch(text, pageable);
+            }
+            return itemRepository.getSearch(text, pageable).stream()
                     .map(ItemMapper::toItemDto)
                     .collect(Collectors.toList());
         } else {
@@ -77,19 +127,23 @@ public class ItemServiceImpl implements ItemService {
             item.setItemRequest(itemRequestRepository.findById(itemDto.getRequestId())
                     .orElseThrow(() -> new ArgumentNotFoundException("The specified item request id=" + itemDto.getRequestId() + " does not exist")));
         }
-        return ItemMapper.toItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemSearchIndex.index(savedItem);
+        return ItemMapper.toItemDto(savedItem);
     }
 
     @Transactional
     @Override
     public ItemDto patch(Long ownerId, Long itemId, String json) {
-        if (!isOwnerOfItem(ownerId, getItemById(itemId))) {
-            throw new ArgumentNotFoundException("User id=" + ownerId + " is not the owner of item id=" + itemId);
-        }
-        Item patchedItem = applyPatchItem(itemId, json);
-        itemRepository.patch(
-                ownerId, itemId, patchedItem.getName(), patchedItem.getDescription(), patchedItem.getAvailable());
-        return ItemMapper.toItemDto(getItemById(itemId));
+        Item patch = readPatchItem(json);
+        Item item = itemRepository.patch(
+                        ownerId, itemId, patch.getName(), patch.getDescription(), patch.getAvailable())
+                // Found by id rather than by an existence query, which would flush cascades to the evicted item
+                .orElseThrow(() -> new ArgumentNotFoundException(itemRepository.findById(itemId).isPresent()
+                        ? "User id=" + ownerId + " is not the owner of item id=" + itemId
+                        : "The specified item id=" + itemId + " does not exist"));
+        itemSearchIndex.index(item);
+        return ItemMapper.toItemDto(item);
     }
 
     @Transactional
@@ -99,6 +153,7 @@ public class ItemServiceImpl implements ItemService {
             throw new ArgumentNotFoundException("User id=" + ownerId + " is not the owner of item id=" + itemId);
         }
         itemRepository.deleteById(itemId);
+        itemSearchIndex.delete(itemId);
     }
 
     @Transactional
@@ -112,14 +167,15 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
-    public ItemShortDto getItemShortById(Long itemId) {
-        return new ItemShortDto(itemRepository.findItemById(itemId)
-                .orElseThrow(() -> new ArgumentNotFoundException("The specified item id=" + itemId + " does not exist")));
+    public List<ItemForRequestDto> getItemsForRequest(Long requestId) {
+        return itemRepository.findByItemRequestId(requestId).stream()
+                .map(ItemForRequestDto::new)
+                .collect(Collectors.toList());
     }
 
     @Override
-    public List<ItemForRequestDto> getItemsForRequest(Long requestId) {
-        return itemRepository.findByItemRequestId(requestId).stream()
+    public List<ItemForRequestDto> getItemsForRequests(Collection<Long> requestIds) {
+        return itemRepository.findByItemRequestIdIn(requestIds).stream()
                 .map(ItemForRequestDto::new)
                 .collect(Collectors.toList());
     }
@@ -130,69 +186,85 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new ArgumentNotFoundException("The specified item id=" + id + " does not exist"));
     }
 
-    private Item applyPatchItem(Long itemId, String json) {
-        Item item = getItemById(itemId);
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper
-                .enable(SerializationFeature.INDENT_OUTPUT)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        try {
-            JsonNode jsonNode = objectMapper.readTree(json);
-            if (jsonNode.has("name")) {
-                patchItemName(jsonNode, item);
-            }
-            if (jsonNode.has("description")) {
-                patchItemDescription(jsonNode, item);
-            }
-            if (jsonNode.has("available")) {
-                patchItemAvailable(jsonNode, item);
+    private List<ItemDto> getIndexedSearch(String text, Pageable pageable) {
+        List<Long> itemIds = itemSearchIndex.search(text, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return itemIds.stream()
+                .filter(items::containsKey)
+                .map(items::get)
+                .map(ItemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
+    // Read patched fields of item, absent fields stay null
+    private Item readPatchItem(String json) {
+        Item item = new Item();
+        jsonMergePatcher.apply(json, "Item data processing error", (field, parser) -> {
+            switch (field) {
+                case "name":
+                    String newName = parser.getValueAsString();
+                    ItemValidator.validateName(newName);
+                    item.setName(newName);
+                    return true;
+                case "description":
+                    String newDescription = parser.getValueAsString();
+                    ItemValidator.validateDescription(newDescription);
+                    item.setDescription(newDescription);
+                    return true;
+                case "available":
+                    Boolean newAvailable = parser.getValueAsBoolean();
+                    ItemValidator.validateAvailable(newAvailable);
+                    item.setAvailable(newAvailable);
+                    return true;
+                default:
+                    return false;
             }
-        } catch (JsonProcessingException e) {
-            throw new ValidationException("Item data processing error");
-        }
+        });
         return item;
     }
 
-    private void patchItemName(JsonNode jsonNode, Item item) {
-        String newName = jsonNode.get("name").asText();
-        ItemValidator.validateName(newName);
-        item.setName(newName);
+    private void setDetailsForOwnerItemDtoList(List<ItemDto> itemDtoList) {
+        if (!itemDtoList.isEmpty()) {
+            List<Long> itemIds = itemDtoList.stream()
+                    .map(ItemDto::getId)
+                    .collect(Collectors.toList());
+            setCommentsForItemDtoList(itemDtoList, itemIds);
+            setBookingsForItemDtoList(itemDtoList, itemIds);
+        }
     }
 
-    private void patchItemDescription(JsonNode jsonNode, Item item) {
-        String newDescription = jsonNode.get("description").asText();
-        ItemValidator.validateDescription(newDescription);
-        item.setDescription(newDescription);
+    private void setBookingsForItemDto(ItemDto itemDto) {
+        setBookingsForItemDtoList(List.of(itemDto), List.of(itemDto.getId()));
     }
 
-    private void patchItemAvailable(JsonNode jsonNode, Item item) {
-        Boolean newAvailable = jsonNode.get("available").asBoolean();
-        ItemValidator.validateAvailable(newAvailable);
-        item.setAvailable(newAvailable);
+    private void setBookingsForItemDtoList(List<ItemDto> itemDtoList, List<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingQueueInfo> lastBookings = toBookingQueueMap(
+                bookingRepository.findLastBookings(itemIds, now, BookingStatus.REJECTED));
+        Map<Long, BookingQueueInfo> nextBookings = toBookingQueueMap(
+                bookingRepository.findNextBookings(itemIds, now, BookingStatus.REJECTED));
+        itemDtoList.forEach(itemDto -> {
+            itemDto.setLastBooking(lastBookings.get(itemDto.getId()));
+            itemDto.setNextBooking(nextBookings.get(itemDto.getId()));
+        });
     }
 
-    private void setBookingsForItemDto(ItemDto itemDto) {
-        List<Booking> itemBookings = bookingRepository.findAllByItemIdOrderByStartAsc(itemDto.getId());
-        if (!itemBookings.isEmpty()) {
-            Optional<Booking> lastBookingOpt = itemBookings.stream()
-                    .filter(booking -> !booking.getStatus().equals(BookingStatus.REJECTED)
-                            && booking.getStart().isBefore(LocalDateTime.now()))
-                    .reduce((first, second) -> second);
-            lastBookingOpt.ifPresent(booking -> itemDto.setLastBooking(BookingMapper.toBookingQueue(booking)));
-            Optional<Booking> nextBookingOpt = itemBookings.stream()
-                    .filter(booking -> !booking.getStatus().equals(BookingStatus.REJECTED)
-                            && booking.getStart().isAfter(LocalDateTime.now()))
-                    .findFirst();
-            nextBookingOpt.ifPresent(booking -> itemDto.setNextBooking(BookingMapper.toBookingQueue(booking)));
-        }
+    private Map<Long, BookingQueueInfo> toBookingQueueMap(List<BookingQueue> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(BookingQueue::getItemId, BookingMapper::toBookingQueue));
     }
 
-    private ItemDto setCommentsForItemDto(ItemDto itemDto) {
-        itemDto.setComments(commentRepository.findByItemId(itemDto.getId())
-                .stream()
-                .map(CommentMapper::toCommentDto)
-                .collect(Collectors.toList()));
-        return itemDto;
+    private void setCommentsForItemDto(ItemDto itemDto) {
+        setCommentsForItemDtoList(List.of(itemDto), List.of(itemDto.getId()));
+    }
+
+    private void setCommentsForItemDtoList(List<ItemDto> itemDtoList, List<Long> itemIds) {
+        Map<Long, List<CommentDto>> commentsByItemId = commentRepository.findLatestByItemIdIn(itemIds, commentsLimit).stream()
+                .collect(Collectors.groupingBy(CommentView::getItemId,
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
+        itemDtoList.forEach(itemDto ->
+                itemDto.setComments(commentsByItemId.getOrDefault(itemDto.getId(), new ArrayList<>())));
     }
 
     private void validateUserForComment(Long userId, Long itemId) {
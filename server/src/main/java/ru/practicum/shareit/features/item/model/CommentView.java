@@ -0,0 +1,16 @@
+package ru.practicum.shareit.features.item.model;
+
+import java.time.LocalDateTime;
+
+public interface CommentView {
+
+    Long getId();
+
+    Long getItemId();
+
+    String getText();
+
+    String getAuthorName();
+
+    LocalDateTime getCreated();
+}
\ No newline at end of file
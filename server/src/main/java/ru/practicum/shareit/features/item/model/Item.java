@@ -20,7 +20,7 @@ public class Item {
     @Column(name = "item_id")
     Long id;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     User user;
 
@@ -33,7 +33,7 @@ public class Item {
     @Column(name = "available", nullable = false)
     Boolean available;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
     ItemRequest itemRequest;
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package ru.practicum.shareit.features.item.model;
 
-import ru.practicum.shareit.features.request.model.ItemRequest;
-
 public interface ItemForRequest {
     Long getId();
 
@@ -11,5 +9,5 @@ public interface ItemForRequest {
 
     Boolean getAvailable();
 
-    ItemRequest getItemRequest();
+    Long getRequestId();
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package ru.practicum.shareit.features.item.model;
 
 import lombok.Getter;
 import lombok.Setter;
-import ru.practicum.shareit.features.request.model.ItemRequest;
 
 @Getter
 @Setter
@@ -11,7 +10,6 @@ public class ItemForRequestDto implements ItemForRequest {
     private String name;
     private String description;
     private Boolean available;
-    private ItemRequest itemRequest;
     private Long requestId;
 
     public ItemForRequestDto(ItemForRequest itemForRequest) {
@@ -19,6 +17,6 @@ public class ItemForRequestDto implements ItemForRequest {
         this.name = itemForRequest.getName();
         this.description = itemForRequest.getDescription();
         this.available = itemForRequest.getAvailable();
-        this.requestId = itemForRequest.getItemRequest().getId();
+        this.requestId = itemForRequest.getRequestId();
     }
 }
\ No newline at end of file
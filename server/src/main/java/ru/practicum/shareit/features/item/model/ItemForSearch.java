@@ -0,0 +1,9 @@
+package ru.practicum.shareit.features.item.model;
+
+public interface ItemForSearch {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+}
\ No newline at end of file
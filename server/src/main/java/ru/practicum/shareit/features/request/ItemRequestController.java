@@ -1,8 +1,10 @@
 package ru.practicum.shareit.features.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.features.request.model.ItemRequestDto;
+import ru.practicum.shareit.utility.CursorManager;
 
 import java.util.List;
 
@@ -20,15 +22,22 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public List<ItemRequestDto> getUserRequests(@RequestHeader(USER_ID_HEADER) Long userId) {
-        return itemRequestService.getUserRequests(userId);
+    public List<ItemRequestDto> getUserRequests(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                @RequestParam(defaultValue = "10", required = false) Integer size) {
+        return itemRequestService.getUserRequests(userId, from, size);
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAllRequests(@RequestHeader(USER_ID_HEADER) Long userId,
-                                               @RequestParam(defaultValue = "0", required = false) Integer from,
-                                               @RequestParam(defaultValue = "10", required = false) Integer size) {
-        return itemRequestService.getAllRequests(userId, from, size);
+    public ResponseEntity<List<ItemRequestDto>> getAllRequests(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                               @RequestParam(defaultValue = "0", required = false) Integer from,
+                                                               @RequestParam(defaultValue = "10", required = false) Integer size,
+                                                               @RequestParam(required = false) String after) {
+        if (after != null) {
+            return CursorManager.toResponse(itemRequestService.getAllRequestsAfter(userId, after, size),
+                    request -> CursorManager.encode(request.getCreated(), request.getId()));
+        }
+        return ResponseEntity.ok(itemRequestService.getAllRequests(userId, from, size));
     }
 
     @GetMapping("/{requestId}")
@@ -1,17 +1,34 @@
 package ru.practicum.shareit.features.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
-    // Find all user requests
-    List<ItemRequest> findByUserIdOrderByCreatedDesc(Long userId);
+    // Find all user requests with pages
+    @Query("SELECT r " +
+            "FROM ItemRequest r " +
+            "WHERE r.user.id = ?1 " +
+            "ORDER BY r.created DESC, r.id DESC")
+    Slice<ItemRequest> findByUserIdOrderByCreatedDescIdDesc(Long userId, Pageable pageable);
 
     // Find all other requests with pages
-    Page<ItemRequest> findByUserIdNotOrderByCreatedDesc(Long userId, Pageable pageable);
+    @Query("SELECT r " +
+            "FROM ItemRequest r " +
+            "WHERE r.user.id <> ?1 " +
+            "ORDER BY r.created DESC")
+    Slice<ItemRequest> findByUserIdNotOrderByCreatedDesc(Long userId, Pageable pageable);
+
+    // Find all other requests after cursor (created, id)
+    @Query("SELECT r " +
+            "FROM ItemRequest r " +
+            "WHERE r.user.id <> ?1 " +
+            "AND (r.created < ?2 OR (r.created = ?2 AND r.id < ?3)) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    Slice<ItemRequest> findOtherRequestsAfter(Long userId, LocalDateTime created, Long id, Pageable pageable);
 }
\ No newline at end of file
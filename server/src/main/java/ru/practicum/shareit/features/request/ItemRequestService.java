@@ -1,5 +1,6 @@
 package ru.practicum.shareit.features.request;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.request.model.ItemRequestDto;
 
 import java.util.List;
@@ -7,9 +8,11 @@ import java.util.List;
 public interface ItemRequestService {
     ItemRequestDto createRequest(Long userId, ItemRequestDto itemRequestDto);
 
-    List<ItemRequestDto> getUserRequests(Long userId);
+    List<ItemRequestDto> getUserRequests(Long userId, Integer from, Integer size);
 
     List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size);
 
+    Slice<ItemRequestDto> getAllRequestsAfter(Long userId, String after, Integer size);
+
     ItemRequestDto getRequestById(Long userId, Long requestId);
 }
\ No newline at end of file
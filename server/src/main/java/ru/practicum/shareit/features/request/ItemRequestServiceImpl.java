@@ -3,16 +3,22 @@ package ru.practicum.shareit.features.request;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
 import ru.practicum.shareit.features.item.ItemService;
+import ru.practicum.shareit.features.item.model.ItemForRequestDto;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 import ru.practicum.shareit.features.request.model.ItemRequestDto;
 import ru.practicum.shareit.features.user.UserService;
+import ru.practicum.shareit.utility.Cursor;
+import ru.practicum.shareit.utility.CursorManager;
 import ru.practicum.shareit.utility.PageManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,19 +39,32 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public List<ItemRequestDto> getUserRequests(Long userId) {
+    public List<ItemRequestDto> getUserRequests(Long userId, Integer from, Integer size) {
         userService.validateUserId(userId);
-        return itemRequestRepository.findByUserIdOrderByCreatedDesc(userId).stream()
-                .map(this::setItemsForRequest)
-                .collect(Collectors.toList());
+        return setItemsForRequests(itemRequestRepository.findByUserIdOrderByCreatedDescIdDesc(
+                        userId, PageManager.getPageable(from, size))
+                .map(ItemRequestMapper::toItemRequestDto)
+                .getContent());
     }
 
     @Override
     public List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size) {
         userService.validateUserId(userId);
-        return itemRequestRepository.findByUserIdNotOrderByCreatedDesc(userId, PageManager.getPageable(from, size))
-                .map(this::setItemsForRequest)
-                .getContent();
+        return setItemsForRequests(itemRequestRepository.findByUserIdNotOrderByCreatedDesc(
+                        userId, PageManager.getPageable(from, size))
+                .map(ItemRequestMapper::toItemRequestDto)
+                .getContent());
+    }
+
+    @Override
+    public Slice<ItemRequestDto> getAllRequestsAfter(Long userId, String after, Integer size) {
+        userService.validateUserId(userId);
+        Cursor cursor = CursorManager.decodeTimestampId(after);
+        Slice<ItemRequestDto> itemRequestDtoSlice = itemRequestRepository.findOtherRequestsAfter(
+                        userId, cursor.getTimestamp(), cursor.getId(), CursorManager.getPageable(size))
+                .map(ItemRequestMapper::toItemRequestDto);
+        setItemsForRequests(itemRequestDtoSlice.getContent());
+        return itemRequestDtoSlice;
     }
 
     @Override
@@ -60,4 +79,19 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         itemRequestDto.setItems(itemService.getItemsForRequest(itemRequest.getId()));
         return itemRequestDto;
     }
+
+    // Set items for page of requests with one query, grouped by request id
+    private List<ItemRequestDto> setItemsForRequests(List<ItemRequestDto> itemRequestDtoList) {
+        if (!itemRequestDtoList.isEmpty()) {
+            Map<Long, List<ItemForRequestDto>> itemsByRequestId = itemService.getItemsForRequests(
+                            itemRequestDtoList.stream()
+                                    .map(ItemRequestDto::getId)
+                                    .collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.groupingBy(ItemForRequestDto::getRequestId));
+            itemRequestDtoList.forEach(itemRequestDto ->
+                    itemRequestDto.setItems(itemsByRequestId.getOrDefault(itemRequestDto.getId(), new ArrayList<>())));
+        }
+        return itemRequestDtoList;
+    }
 }
\ No newline at end of file
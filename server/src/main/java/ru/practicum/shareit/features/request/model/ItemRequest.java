@@ -20,7 +20,7 @@ public class ItemRequest {
     @Column(name = "request_id")
     Long id;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "requestor_id", nullable = false)
     User user;
 
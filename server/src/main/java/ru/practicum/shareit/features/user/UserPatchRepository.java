@@ -0,0 +1,13 @@
+package ru.practicum.shareit.features.user;
+
+import ru.practicum.shareit.features.user.model.User;
+
+import java.util.Optional;
+
+public interface UserPatchRepository {
+
+    // Patch user, null values keep current data, returns patched user or empty if not found
+    Optional<User> patch(Long id,
+                         String name,
+                         String email);
+}
\ No newline at end of file
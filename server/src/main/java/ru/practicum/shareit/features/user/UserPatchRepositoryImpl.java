@@ -0,0 +1,48 @@
+package ru.practicum.shareit.features.user;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.ReturningUpdate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+
+public class UserPatchRepositoryImpl implements UserPatchRepository {
+    private static final String UPDATE = "UPDATE users " +
+            "SET user_name = COALESCE(:name, user_name), " +
+            "email = COALESCE(:email, email) " +
+            "WHERE user_id = :id";
+    private static final String COLUMNS = "user_id, user_name, email";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<User> patch(Long id, String name, String email) {
+        List<Object[]> rows = entityManager.createNativeQuery(ReturningUpdate.of(entityManager, UPDATE, COLUMNS))
+                .unwrap(NativeQuery.class)
+                .setParameter("name", name, StringType.INSTANCE)
+                .setParameter("email", email, StringType.INSTANCE)
+                .setParameter("id", id, LongType.INSTANCE)
+                .addScalar("user_id", LongType.INSTANCE)
+                .addScalar("user_name", StringType.INSTANCE)
+                .addScalar("email", StringType.INSTANCE)
+                .getResultList();
+        ReturningUpdate.evict(entityManager, User.class, id);
+        return rows.stream()
+                .findFirst()
+                .map(this::toUser);
+    }
+
+    private User toUser(Object[] row) {
+        User user = new User();
+        user.setId((Long) row[0]);
+        user.setName((String) row[1]);
+        user.setEmail((String) row[2]);
+        return user;
+    }
+}
\ No newline at end of file
@@ -2,7 +2,6 @@ package ru.practicum.shareit.features.user;
 
 import ru.practicum.shareit.features.user.model.User;
 import ru.practicum.shareit.features.user.model.UserDto;
-import ru.practicum.shareit.features.user.model.UserShortDto;
 
 import java.util.List;
 
@@ -13,8 +12,6 @@ public interface UserService {
 
     User getUserById(Long id);
 
-    UserShortDto getUserShortById(Long id);
-
     UserDto create(UserDto userDto);
 
     UserDto patch(Long id, String json);
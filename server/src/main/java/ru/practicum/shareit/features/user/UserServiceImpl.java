@@ -1,31 +1,31 @@
 package ru.practicum.shareit.features.user;
 
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
-import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.features.user.model.User;
 import ru.practicum.shareit.features.user.model.UserDto;
-import ru.practicum.shareit.features.user.model.UserShortDto;
+import ru.practicum.shareit.utility.JsonMergePatcher;
 import ru.practicum.shareit.utility.UserValidator;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-@Getter
 public class UserServiceImpl implements UserService {
+    private static final int KNOWN_USER_IDS_LIMIT = 10_000;
+    @Getter
     private final UserRepository userRepository;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final Set<Long> knownUserIds = ConcurrentHashMap.newKeySet();
 
     @Override
     public List<UserDto> getAll() {
@@ -39,12 +39,6 @@ public class UserServiceImpl implements UserService {
         return UserMapper.toUserDto(getUserById(id));
     }
 
-    @Override
-    public UserShortDto getUserShortById(Long id) {
-        return new UserShortDto(userRepository.findUserById(id)
-                .orElseThrow(() -> new ArgumentNotFoundException("The specified user id=" + id + " does not exist")));
-    }
-
     @Override
     public User getUserById(Long id) {
         validateUserId(id);
@@ -60,55 +54,73 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public UserDto patch(Long id, String json) {
-        validateUserId(id);
-        User patchedUser = applyPatchUser(id, json);
-        userRepository.patch(id, patchedUser.getName(), patchedUser.getEmail());
-        return UserMapper.toUserDto(userRepository.getReferenceById(id));
+        User patch = readPatchUser(json);
+        return UserMapper.toUserDto(userRepository.patch(id, patch.getName(), patch.getEmail())
+                .orElseThrow(() -> new ArgumentNotFoundException("The specified user id=" + id + " does not exist")));
     }
 
     @Transactional
     @Override
     public void deleteById(Long id) {
         validateUserId(id);
+        forgetUserId(id);
         userRepository.deleteById(id);
     }
 
-    private User applyPatchUser(Long id, String json) {
-        User user = userRepository.getReferenceById(id);
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper
-                .enable(SerializationFeature.INDENT_OUTPUT)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        try {
-            JsonNode jsonNode = objectMapper.readTree(json);
-            if (jsonNode.has("name")) {
-                patchUserName(jsonNode, user);
+    // Read patched fields of user, absent fields stay null
+    private User readPatchUser(String json) {
+        User user = new User();
+        jsonMergePatcher.apply(json, "User data processing error", (field, parser) -> {
+            switch (field) {
+                case "name":
+                    String newName = parser.getValueAsString();
+                    UserValidator.validateName(newName);
+                    user.setName(newName);
+                    return true;
+                case "email":
+                    String newEmail = parser.getValueAsString();
+                    UserValidator.validateEmail(newEmail);
+                    user.setEmail(newEmail);
+                    return true;
+                default:
+                    return false;
             }
-            if (jsonNode.has("email")) {
-                patchUserEmail(jsonNode, user);
-            }
-        } catch (JsonProcessingException e) {
-            throw new ValidationException("User data processing error");
-        }
+        });
         return user;
     }
 
     @Override
     public void validateUserId(Long id) {
-        if (id == null || userRepository.findById(id).isEmpty()) {
+        if (id == null || !isExistingUserId(id)) {
             throw new ArgumentNotFoundException("The specified user id=" + id + " does not exist");
         }
     }
 
-    private void patchUserName(JsonNode jsonNode, User user) {
-        String newName = jsonNode.get("name").asText();
-        UserValidator.validateName(newName);
-        user.setName(newName);
+    // Check user id against ids known to exist, then against database
+    private boolean isExistingUserId(Long id) {
+        if (knownUserIds.contains(id)) {
+            return true;
+        }
+        if (!userRepository.existsById(id)) {
+            return false;
+        }
+        if (knownUserIds.size() >= KNOWN_USER_IDS_LIMIT) {
+            knownUserIds.clear();
+        }
+        knownUserIds.add(id);
+        return true;
     }
 
-    private void patchUserEmail(JsonNode jsonNode, User user) {
-        String newEmail = jsonNode.get("email").asText();
-        UserValidator.validateEmail(newEmail);
-        user.setEmail(newEmail);
+    // Forget deleted user id now and once more after transaction completes
+    private void forgetUserId(Long id) {
+        knownUserIds.remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    knownUserIds.remove(id);
+                }
+            });
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.utility;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class Cursor {
+    LocalDateTime timestamp;
+    Long id;
+}
\ No newline at end of file
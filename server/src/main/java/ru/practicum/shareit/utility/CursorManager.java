@@ -0,0 +1,79 @@
+package ru.practicum.shareit.utility;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@UtilityClass
+public class CursorManager {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final LocalDateTime MIN_TIMESTAMP = LocalDateTime.of(1, 1, 1, 0, 0, 0);
+    public static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "_";
+
+    public Pageable getPageable(Integer size) {
+        return PageManager.getPageable(0, size);
+    }
+
+    public String encode(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public String encode(LocalDateTime timestamp, Long id) {
+        return encode(timestamp + SEPARATOR + id);
+    }
+
+    // Decode cursor of ascending id order, empty cursor points before the first element
+    public Long decodeId(String cursor) {
+        if (cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Decode cursor of descending timestamp and id order, empty cursor points before the first element
+    public Cursor decodeTimestampId(String cursor) {
+        if (cursor.isBlank()) {
+            return new Cursor(MAX_TIMESTAMP, Long.MAX_VALUE);
+        }
+        try {
+            String[] values = decode(cursor).split(SEPARATOR);
+            if (values.length != 2) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            return new Cursor(LocalDateTime.parse(values[0]), Long.valueOf(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public <T> ResponseEntity<List<T>> toResponse(Slice<T> slice, Function<T, String> cursorMapper) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            T lastElement = slice.getContent().get(slice.getNumberOfElements() - 1);
+            responseBuilder.header(NEXT_CURSOR_HEADER, cursorMapper.apply(lastElement));
+        }
+        return responseBuilder.body(slice.getContent());
+    }
+
+    private String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
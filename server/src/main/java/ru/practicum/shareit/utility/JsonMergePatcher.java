@@ -0,0 +1,49 @@
+package ru.practicum.shareit.utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exceptions.ValidationException;
+
+import java.io.IOException;
+
+// Streams top-level fields of JSON merge patch body to handler without building tree
+@Component
+public class JsonMergePatcher {
+    private final JsonFactory jsonFactory;
+
+    public JsonMergePatcher(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public void apply(String json, String errorMessage, FieldHandler handler) {
+        if (json == null || json.isBlank()) {
+            return;
+        }
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException(errorMessage);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (!handler.handle(field, parser)) {
+                    parser.skipChildren();
+                } else if (parser.currentToken().isStructStart()) {
+                    throw new ValidationException(errorMessage);
+                }
+            }
+        } catch (IOException e) {
+            throw new ValidationException(errorMessage);
+        }
+    }
+
+    // Reads scalar value of field at current parser token, returns false if field is not patchable.
+    // Object or array left unread by handler for patchable field is rejected as invalid patch
+    @FunctionalInterface
+    public interface FieldHandler {
+        boolean handle(String field, JsonParser parser) throws IOException;
+    }
+}
\ No newline at end of file
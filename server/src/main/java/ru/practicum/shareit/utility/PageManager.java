@@ -3,18 +3,23 @@ package ru.practicum.shareit.utility;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exceptions.ValidationException;
 
 @UtilityClass
 public class PageManager {
 
     public Pageable getPageable(Integer from, Integer size) {
+        return getPageable(from, size, Sort.unsorted());
+    }
+
+    public Pageable getPageable(Integer from, Integer size, Sort sort) {
         validateElementIndex(from);
         validatePageSize(size);
         if (from <= size - 1) {
-            return PageRequest.of(0, size);
+            return PageRequest.of(0, size, sort);
         } else {
-            return PageRequest.of(from / size, size);
+            return PageRequest.of(from / size, size, sort);
         }
     }
 
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.utility;
+
+import lombok.experimental.UtilityClass;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import javax.persistence.EntityManager;
+
+// Builds UPDATE statement returning updated rows in one round trip:
+// UPDATE ... RETURNING on PostgreSQL, SELECT ... FROM FINAL TABLE (UPDATE ...) on H2
+@UtilityClass
+public class ReturningUpdate {
+
+    public String of(EntityManager entityManager, String update, String columns) {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQL81Dialect
+                ? update + " RETURNING " + columns
+                : "SELECT " + columns + " FROM FINAL TABLE (" + update + ")";
+    }
+
+    // Drops copies of entity loaded before update bypassed persistence context
+    public void evict(EntityManager entityManager, Class<?> entityClass, Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(entityClass);
+        Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            entityManager.detach(managed);
+        }
+        entityManager.getEntityManagerFactory().getCache().evict(entityClass, id);
+    }
+}
\ No newline at end of file
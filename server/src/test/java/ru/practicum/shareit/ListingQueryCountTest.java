@@ -0,0 +1,137 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.features.booking.BookingService;
+import ru.practicum.shareit.features.booking.model.Booking;
+import ru.practicum.shareit.features.booking.model.BookingStatus;
+import ru.practicum.shareit.features.item.ItemService;
+import ru.practicum.shareit.features.item.model.Item;
+import ru.practicum.shareit.features.request.ItemRequestService;
+import ru.practicum.shareit.features.request.model.ItemRequest;
+import ru.practicum.shareit.features.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+// Records statements issued per listing page of the services: offset pages are read as slices, without a COUNT query
+@Transactional
+@SpringBootTest(
+        properties = {"db.name=test", SqlRecorder.PROPERTY},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ListingQueryCountTest {
+    static final int PAGE_SIZE = 2;
+    static final int FROM = PAGE_SIZE;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    BookingService bookingService;
+    @Autowired
+    ItemService itemService;
+    @Autowired
+    ItemRequestService itemRequestService;
+    User owner;
+    User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = setUser("John Doe", "john_doe@email.com");
+        booker = setUser("Jane Doe", "jane_doe@email.com");
+        Item item = setItem();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= PAGE_SIZE * 2; i++) {
+            setBooking(item, now.plusDays(i), now.plusDays(i + 1));
+            setRequest(now.minusDays(i));
+            setItem();
+        }
+    }
+
+    @Test
+    void shouldListBookingsInSingleStatement() {
+        assertThat(recordStatements(() -> bookingService.getBookingsOfBooker(booker.getId(), "ALL", FROM, PAGE_SIZE)),
+                hasSize(1));
+        assertThat(recordStatements(() -> bookingService.getBookingsOfOwner(owner.getId(), "WAITING", FROM, PAGE_SIZE)),
+                hasSize(1));
+    }
+
+    @Test
+    void shouldListItemsWithoutCount() {
+        // Item page, latest comments, last and next bookings
+        assertThat(recordStatements(() -> itemService.getAllOwnerItems(owner.getId(), FROM, PAGE_SIZE)),
+                hasSize(4));
+        assertThat(recordStatements(() -> itemService.getSearch(booker.getId(), "item", FROM, PAGE_SIZE)),
+                hasSize(1));
+    }
+
+    @Test
+    void shouldListRequestsWithoutCount() {
+        // Request page, items of the requests
+        assertThat(recordStatements(() -> itemRequestService.getAllRequests(owner.getId(), FROM, PAGE_SIZE)),
+                hasSize(2));
+        assertThat(recordStatements(() -> itemRequestService.getUserRequests(booker.getId(), FROM, PAGE_SIZE)),
+                hasSize(2));
+    }
+
+    // Runs the listing once to cache the user id check, then records the statements of a second run
+    private List<String> recordStatements(Supplier<List<?>> listing) {
+        listing.get();
+        entityManager.clear();
+        SqlRecorder.STATEMENTS.clear();
+        assertThat(listing.get(), hasSize(PAGE_SIZE));
+        List<String> statements = new ArrayList<>(SqlRecorder.STATEMENTS);
+        assertThat(statements, everyItem(not(containsStringIgnoringCase("count("))));
+        return statements;
+    }
+
+    private User setUser(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        entityManager.persist(user);
+        entityManager.flush();
+        return user;
+    }
+
+    private Item setItem() {
+        Item item = new Item();
+        item.setUser(owner);
+        item.setName("Item");
+        item.setDescription("Description");
+        item.setAvailable(true);
+        entityManager.persist(item);
+        entityManager.flush();
+        return item;
+    }
+
+    private void setBooking(Item item, LocalDateTime start, LocalDateTime end) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setUser(booker);
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setStatus(BookingStatus.WAITING);
+        entityManager.persist(booking);
+        entityManager.flush();
+    }
+
+    private void setRequest(LocalDateTime created) {
+        ItemRequest request = new ItemRequest();
+        request.setUser(booker);
+        request.setDescription("Description");
+        request.setCreated(created);
+        entityManager.persist(request);
+        entityManager.flush();
+    }
+}
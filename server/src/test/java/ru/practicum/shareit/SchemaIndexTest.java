@@ -0,0 +1,178 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.features.booking.BookingRepository;
+import ru.practicum.shareit.features.booking.model.BookingFilter;
+import ru.practicum.shareit.features.booking.model.BookingStatus;
+import ru.practicum.shareit.features.booking.model.State;
+import ru.practicum.shareit.features.item.CommentRepository;
+import ru.practicum.shareit.features.item.ItemRepository;
+import ru.practicum.shareit.features.request.ItemRequestRepository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+// Plans are checked for the SQL the repository queries send, as recorded by SqlRecorder
+@DataJpaTest(properties = SqlRecorder.PROPERTY)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class SchemaIndexTest {
+    static final PageRequest PAGE = PageRequest.of(0, 10);
+    @Autowired
+    TestEntityManager entityManager;
+    @Autowired
+    BookingRepository bookingRepository;
+    @Autowired
+    ItemRepository itemRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    // H2 backs every foreign key with an index of its own and prefers it over the wider secondary indexes.
+    // PostgreSQL does not index foreign keys, so they are dropped to leave the planner the production choice.
+    @BeforeAll
+    static void dropForeignKeys(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            List<String> drops = new ArrayList<>();
+            try (ResultSet constraints = statement.executeQuery("SELECT TABLE_NAME, CONSTRAINT_NAME " +
+                    "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS " +
+                    "WHERE CONSTRAINT_TYPE = 'FOREIGN KEY' AND TABLE_SCHEMA = 'PUBLIC'")) {
+                while (constraints.next()) {
+                    drops.add("ALTER TABLE " + constraints.getString(1) +
+                            " DROP CONSTRAINT \"" + constraints.getString(2) + "\"");
+                }
+            }
+            for (String drop : drops) {
+                statement.execute(drop);
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateSecondaryIndexes() {
+        List<String> indexes = entityManager.getEntityManager()
+                .createNativeQuery("SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_SCHEMA = 'PUBLIC'")
+                .getResultList();
+
+        assertThat(indexes, hasItems(
+                "bookings_booker_start_idx",
+                "bookings_booker_status_start_idx",
+                "bookings_item_start_idx",
+                "items_owner_idx",
+                "items_request_idx",
+                "comments_item_idx",
+                "requests_requestor_creation_idx",
+                "requests_creation_idx"));
+    }
+
+    @Test
+    void shouldUseBookerIndexesForBookerBookings() {
+        BookingFilter all = BookingFilter.of(State.ALL, LocalDateTime.now());
+        BookingFilter waiting = BookingFilter.of(State.WAITING, LocalDateTime.now());
+
+        bookingRepository.findBookerBookings(1L, all, PageRequest.of(0, 10));
+        assertThat(explainLastStatement(), containsString("BOOKINGS_BOOKER_START_IDX"));
+
+        bookingRepository.findBookerBookings(1L, waiting, PageRequest.of(0, 10));
+        assertThat(explainLastStatement(), containsString("BOOKINGS_BOOKER_STATUS_START_IDX"));
+    }
+
+    @Test
+    void shouldUseOwnerAndItemIndexesForOwnerBookings() {
+        BookingFilter all = BookingFilter.of(State.ALL, LocalDateTime.now());
+
+        bookingRepository.findOwnerBookings(1L, all, PageRequest.of(0, 10));
+
+        assertThat(explainLastStatement(), allOf(
+                containsString("ITEMS_OWNER_IDX"),
+                containsString("BOOKINGS_ITEM_START_IDX")));
+    }
+
+    @Test
+    void shouldUseItemIndexForItemBookings() {
+        LocalDateTime now = LocalDateTime.now();
+
+        bookingRepository.findLastBookings(List.of(1L, 2L), now, BookingStatus.REJECTED);
+        assertThat(explainLastStatement(), containsString("BOOKINGS_ITEM_START_IDX"));
+
+        bookingRepository.existsByItemIdAndStatusNotInAndStartBeforeAndEndAfter(1L,
+                List.of(BookingStatus.REJECTED), now, now);
+        assertThat(explainLastStatement(), containsString("BOOKINGS_ITEM_START_IDX"));
+    }
+
+    @Test
+    void shouldUseItemIndexesForItems() {
+        itemRepository.findByUserIdOrderById(1L, PAGE);
+        assertThat(explainLastStatement(), containsString("ITEMS_OWNER_IDX"));
+
+        itemRepository.findByItemRequestIdIn(List.of(1L, 2L));
+        assertThat(explainLastStatement(), containsString("ITEMS_REQUEST_IDX"));
+    }
+
+    @Test
+    void shouldUseCommentIndexForComments() {
+        commentRepository.findLatestByItemIdIn(List.of(1L, 2L), 10);
+        assertThat(explainLastStatement(), containsString("COMMENTS_ITEM_IDX"));
+
+        commentRepository.findByItemId(1L, PAGE);
+        assertThat(explainLastStatement(), containsString("COMMENTS_ITEM_IDX"));
+    }
+
+    @Test
+    void shouldUseRequestIndexesForRequests() {
+        itemRequestRepository.findByUserIdOrderByCreatedDescIdDesc(1L, PAGE);
+        assertThat(explainLastStatement(), containsString("REQUESTS_REQUESTOR_CREATION_IDX"));
+        // requests_creation_idx serves the other users' requests only through a backward scan, which H2 does not do
+    }
+
+    private String explainLastStatement() {
+        String sql = SqlRecorder.STATEMENTS.get(SqlRecorder.STATEMENTS.size() - 1);
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData metaData = statement.getParameterMetaData();
+                for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(metaData.getParameterType(i)));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        switch (sqlType) {
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(LocalDateTime.now());
+            case Types.VARCHAR:
+                return BookingStatus.WAITING.name();
+            case Types.INTEGER:
+                return 10;
+            default:
+                return 1L;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.features.booking;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.exceptions.BookingConflictException;
+import ru.practicum.shareit.features.booking.model.BookingShortDto;
+import ru.practicum.shareit.features.item.ItemService;
+import ru.practicum.shareit.features.item.model.ItemDto;
+import ru.practicum.shareit.features.user.UserService;
+import ru.practicum.shareit.features.user.model.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BookingConcurrencyTest {
+    static final int CREATORS = 200;
+    static final int THREADS = 32;
+    static final int FUTURE_YEAR = LocalDateTime.now().getYear() + 1;
+    final BookingService bookingService;
+    final BookingRepository bookingRepository;
+    final ItemService itemService;
+    final UserService userService;
+    final List<Long> userIds = new ArrayList<>();
+    Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        Long ownerId = setUser("Concurrency owner", "concurrency_owner@email.com");
+        ItemDto itemDto = new ItemDto();
+        itemDto.setName("Item");
+        itemDto.setDescription("Description");
+        itemDto.setAvailable(true);
+        itemId = itemService.create(ownerId, itemDto).getId();
+        for (int i = 0; i < THREADS; i++) {
+            setUser("Concurrency booker " + i, "concurrency_booker_" + i + "@email.com");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userIds.forEach(userService::deleteById);
+    }
+
+    @Test
+    void shouldCreateSingleBookingForSamePeriodUnderConcurrentCreators() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CREATORS; i++) {
+                Long bookerId = userIds.get(1 + i % THREADS);
+                int day = 1 + i % 3;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.create(bookerId, setBookingShort(day));
+                        created.incrementAndGet();
+                    } catch (BookingConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created.get(), equalTo(1));
+        assertThat(conflicts.get(), equalTo(CREATORS - 1));
+        assertThat(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(itemId))
+                .count(), equalTo(1L));
+    }
+
+    // Periods of days 1-3 all overlap at September 3
+    private BookingShortDto setBookingShort(int day) {
+        BookingShortDto bookingShortDto = new BookingShortDto();
+        bookingShortDto.setItemId(itemId);
+        bookingShortDto.setStart(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, day, 12, 0, 0));
+        bookingShortDto.setEnd(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, day + 3, 12, 0, 0));
+        return bookingShortDto;
+    }
+
+    private Long setUser(String name, String email) {
+        UserDto userDto = new UserDto();
+        userDto.setName(name);
+        userDto.setEmail(email);
+        Long userId = userService.create(userDto).getId();
+        userIds.add(userId);
+        return userId;
+    }
+}
\ No newline at end of file
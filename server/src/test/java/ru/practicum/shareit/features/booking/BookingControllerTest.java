@@ -9,6 +9,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.features.booking.model.BookingDto;
@@ -16,6 +18,7 @@ import ru.practicum.shareit.features.booking.model.BookingShortDto;
 import ru.practicum.shareit.features.booking.model.BookingStatus;
 import ru.practicum.shareit.features.item.model.ItemShortDto;
 import ru.practicum.shareit.features.user.model.UserShortDto;
+import ru.practicum.shareit.utility.CursorManager;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -27,6 +30,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -191,4 +195,25 @@ class BookingControllerTest {
         Mockito.verify(bookingService, Mockito.times(1))
                 .getBookingsOfOwner(10L, "PAST", 1, 1);
     }
+
+    @Test
+    void shouldGetBookingsOfOwnerAfterCursor() throws Exception {
+        when(bookingService.getBookingsOfOwnerAfter(anyLong(), anyString(), anyString(), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(booking), PageRequest.of(0, 1), true));
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 10)
+                        .param("after", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorManager.NEXT_CURSOR_HEADER,
+                        CursorManager.encode(booking.getStart(), booking.getId())))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(booking.getId()), Long.class));
+
+        Mockito.verify(bookingService, Mockito.times(1))
+                .getBookingsOfOwnerAfter(10L, "ALL", "", 1);
+        Mockito.verify(bookingService, Mockito.never())
+                .getBookingsOfOwner(anyLong(), anyString(), anyInt(), anyInt());
+    }
 }
\ No newline at end of file
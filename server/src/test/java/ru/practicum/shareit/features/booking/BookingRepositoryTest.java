@@ -7,16 +7,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import ru.practicum.shareit.features.booking.model.Booking;
-import ru.practicum.shareit.features.booking.model.BookingStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.features.booking.model.*;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.CursorManager;
 
+import javax.persistence.PersistenceUnitUtil;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 
 @DataJpaTest
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -63,6 +67,176 @@ class BookingRepositoryTest {
         assertThat(patchedBooking.getStatus(), equalTo(BookingStatus.APPROVED));
     }
 
+    @Test
+    void shouldFindLastAndNextBookings() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking lastBooking = setBooking(now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        setBooking(now.minusHours(2), now.minusHours(1), BookingStatus.REJECTED);
+        Booking nextBooking = setBooking(now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        setBooking(now.plusDays(3), now.plusDays(4), BookingStatus.WAITING);
+        Long itemId = booking.getItem().getId();
+
+        List<BookingQueue> lastBookings = bookingRepository.findLastBookings(List.of(itemId, 99L), now, BookingStatus.REJECTED);
+        List<BookingQueue> nextBookings = bookingRepository.findNextBookings(List.of(itemId, 99L), now, BookingStatus.REJECTED);
+
+        assertThat(lastBookings, hasSize(1));
+        assertThat(lastBookings.get(0).getId(), equalTo(lastBooking.getId()));
+        assertThat(lastBookings.get(0).getItemId(), equalTo(itemId));
+        assertThat(lastBookings.get(0).getBookerId(), equalTo(lastBooking.getUser().getId()));
+        assertThat(nextBookings, hasSize(1));
+        assertThat(nextBookings.get(0).getId(), equalTo(nextBooking.getId()));
+    }
+
+    @Test
+    void shouldBreakTiesOfLastAndNextBookingsById() {
+        LocalDateTime now = LocalDateTime.now();
+        setBooking(now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        Booking lastBooking = setBooking(now.minusDays(2), now.minusHours(20), BookingStatus.APPROVED);
+        Booking nextBooking = setBooking(now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        setBooking(now.plusDays(1), now.plusDays(3), BookingStatus.WAITING);
+        Long itemId = booking.getItem().getId();
+
+        List<BookingQueue> lastBookings = bookingRepository.findLastBookings(List.of(itemId), now, BookingStatus.REJECTED);
+        List<BookingQueue> nextBookings = bookingRepository.findNextBookings(List.of(itemId), now, BookingStatus.REJECTED);
+
+        assertThat(lastBookings, hasSize(1));
+        assertThat(lastBookings.get(0).getId(), equalTo(lastBooking.getId()));
+        assertThat(nextBookings, hasSize(1));
+        assertThat(nextBookings.get(0).getId(), equalTo(nextBooking.getId()));
+    }
+
+    @Test
+    void shouldFindOwnerBookingsView() {
+        Booking rejectedBooking = setBooking(booking.getStart().plusDays(5), booking.getEnd().plusDays(5), BookingStatus.REJECTED);
+        Long ownerId = booking.getItem().getUser().getId();
+
+        Slice<BookingView> bookings = bookingRepository.findOwnerBookings(ownerId,
+                BookingFilter.of(State.ALL, booking.getStart()), PageRequest.of(0, 10));
+        Slice<BookingView> rejectedBookings = bookingRepository.findOwnerBookings(ownerId,
+                BookingFilter.of(State.REJECTED, booking.getStart()), PageRequest.of(0, 10));
+        BookingView bookingView = bookings.getContent().get(1);
+
+        assertThat(bookings.getContent(), hasSize(2));
+        assertThat(bookings.getContent().get(0).getId(), equalTo(rejectedBooking.getId()));
+        assertThat(bookingView.getId(), equalTo(booking.getId()));
+        assertThat(bookingView.getStart(), equalTo(booking.getStart()));
+        assertThat(bookingView.getEnd(), equalTo(booking.getEnd()));
+        assertThat(bookingView.getStatus(), equalTo(booking.getStatus()));
+        assertThat(bookingView.getBookerId(), equalTo(booking.getUser().getId()));
+        assertThat(bookingView.getItemId(), equalTo(booking.getItem().getId()));
+        assertThat(bookingView.getItemName(), equalTo(booking.getItem().getName()));
+        assertThat(rejectedBookings.getContent(), hasSize(1));
+        assertThat(rejectedBookings.getContent().get(0).getId(), equalTo(rejectedBooking.getId()));
+    }
+
+    @Test
+    void shouldFindBookerBookingsViewByTimeState() {
+        LocalDateTime now = booking.getStart().plusHours(1);
+        Booking pastBooking = setBooking(now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED);
+        Booking futureBooking = setBooking(now.plusDays(2), now.plusDays(3), BookingStatus.APPROVED);
+        Long bookerId = booking.getUser().getId();
+
+        assertThat(findBookerBookingIds(bookerId, State.PAST, now), contains(pastBooking.getId()));
+        assertThat(findBookerBookingIds(bookerId, State.CURRENT, now), contains(booking.getId()));
+        assertThat(findBookerBookingIds(bookerId, State.FUTURE, now), contains(futureBooking.getId()));
+        assertThat(findBookerBookingIds(bookerId, State.ALL, now),
+                contains(futureBooking.getId(), booking.getId(), pastBooking.getId()));
+    }
+
+    @Test
+    void shouldApplyStrictBoundsToPastAndFutureBookings() {
+        LocalDateTime now = booking.getEnd();
+        Booking futureBooking = setBooking(now, now.plusDays(1), BookingStatus.APPROVED);
+        Long bookerId = booking.getUser().getId();
+
+        assertThat(findBookerBookingIds(bookerId, State.PAST, now), empty());
+        assertThat(findBookerBookingIds(bookerId, State.CURRENT, now),
+                contains(futureBooking.getId(), booking.getId()));
+        assertThat(findBookerBookingIds(bookerId, State.FUTURE, now), empty());
+        assertThat(findBookerBookingIds(bookerId, State.PAST, now.plusNanos(1000)), contains(booking.getId()));
+        assertThat(findBookerBookingIds(bookerId, State.FUTURE, now.minusNanos(1000)), contains(futureBooking.getId()));
+    }
+
+    @Test
+    void shouldOrderOffsetAndCursorPagesAlike() {
+        LocalDateTime now = booking.getStart().plusHours(1);
+        Booking laterBooking = setBooking(booking.getStart().plusMinutes(30), now.plusDays(1), BookingStatus.WAITING);
+        Booking tiedBooking = setBooking(booking.getStart(), now.plusDays(1), BookingStatus.WAITING);
+        Long bookerId = booking.getUser().getId();
+        BookingFilter filter = BookingFilter.of(State.CURRENT, now);
+
+        List<Long> offsetIds = findBookerBookingIds(bookerId, State.CURRENT, now);
+        List<Long> cursorIds = bookingRepository.findBookerBookingsAfter(bookerId, filter,
+                        CursorManager.MAX_TIMESTAMP, Long.MAX_VALUE, PageRequest.of(0, 10))
+                .map(BookingView::getId)
+                .getContent();
+
+        assertThat(offsetIds, contains(laterBooking.getId(), tiedBooking.getId(), booking.getId()));
+        assertThat(cursorIds, equalTo(offsetIds));
+    }
+
+    @Test
+    void shouldNotRestrictUnboundedFilterFields() {
+        BookingFilter all = BookingFilter.of(State.ALL, LocalDateTime.now());
+        BookingFilter waiting = BookingFilter.of(State.WAITING, LocalDateTime.now());
+
+        assertThat(all.getStatuses(), nullValue());
+        assertThat(all.getStartAfter(), nullValue());
+        assertThat(all.getEndBefore(), nullValue());
+        assertThat(waiting.getStatuses(), contains(BookingStatus.WAITING));
+        assertThat(waiting.getStartTo(), nullValue());
+    }
+
+    @Test
+    void shouldFindBookerBookingsViewAfterCursor() {
+        Booking laterBooking = setBooking(booking.getStart().plusDays(5), booking.getEnd().plusDays(5), BookingStatus.WAITING);
+        Long bookerId = booking.getUser().getId();
+        BookingFilter filter = BookingFilter.of(State.WAITING, booking.getStart());
+
+        Slice<BookingView> firstSlice = bookingRepository.findBookerBookingsAfter(bookerId, filter,
+                CursorManager.MAX_TIMESTAMP, Long.MAX_VALUE, PageRequest.of(0, 1));
+        Slice<BookingView> secondSlice = bookingRepository.findBookerBookingsAfter(bookerId, filter,
+                laterBooking.getStart(), laterBooking.getId(), PageRequest.of(0, 1));
+
+        assertThat(firstSlice.getContent().get(0).getId(), equalTo(laterBooking.getId()));
+        assertThat(firstSlice.hasNext(), equalTo(true));
+        assertThat(secondSlice.getContent().get(0).getId(), equalTo(booking.getId()));
+        assertThat(secondSlice.hasNext(), equalTo(false));
+    }
+
+    @Test
+    void shouldFindByIdWithItemOnly() {
+        entityManager.clear();
+        Booking searchedBooking = bookingRepository.findById(booking.getId()).orElseThrow();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .getPersistenceUnitUtil();
+
+        assertThat(persistenceUnitUtil.isLoaded(searchedBooking, "item"), equalTo(true));
+        assertThat(persistenceUnitUtil.isLoaded(searchedBooking, "user"), equalTo(false));
+        assertThat(persistenceUnitUtil.isLoaded(searchedBooking.getItem(), "user"), equalTo(false));
+        assertThat(searchedBooking.getItem().getName(), equalTo(booking.getItem().getName()));
+    }
+
+    private Booking setBooking(LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        Booking newBooking = new Booking();
+        newBooking.setItem(booking.getItem());
+        newBooking.setUser(booking.getUser());
+        newBooking.setStart(start);
+        newBooking.setEnd(end);
+        newBooking.setStatus(status);
+        entityManager.persist(newBooking);
+        entityManager.flush();
+        return newBooking;
+    }
+
+    private List<Long> findBookerBookingIds(Long bookerId, State state, LocalDateTime now) {
+        BookingFilter filter = BookingFilter.of(state, now);
+        return bookingRepository.findBookerBookings(bookerId, filter, PageRequest.of(0, 10))
+                .map(BookingView::getId)
+                .getContent();
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
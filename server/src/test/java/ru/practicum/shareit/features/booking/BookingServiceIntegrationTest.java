@@ -3,6 +3,8 @@ package ru.practicum.shareit.features.booking;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,13 +12,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
+import ru.practicum.shareit.exceptions.BookingConflictException;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.exceptions.WrongStateArgumentException;
 import ru.practicum.shareit.features.booking.model.*;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.CursorManager;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
@@ -38,6 +44,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 class BookingServiceIntegrationTest {
+    static final int PAST_YEAR = LocalDateTime.now().getYear() - 1;
+    static final int FUTURE_YEAR = LocalDateTime.now().getYear() + 1;
     final EntityManager entityManager;
     final BookingService bookingService;
     User owner;
@@ -63,27 +71,60 @@ class BookingServiceIntegrationTest {
                 booker.getId(),
                 setBookingShort(
                         item.getId(),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0)));
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0)));
 
         secondBooking = bookingService.create(
                 booker.getId(),
                 setBookingShort(
                         item.getId(),
-                        LocalDateTime.of(2023, Month.OCTOBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.OCTOBER, 2, 12, 0, 0)));
+                        LocalDateTime.of(FUTURE_YEAR, Month.OCTOBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.OCTOBER, 2, 12, 0, 0)));
     }
 
     @Test
     void shouldCreateBooking() {
         assertThat(firstBooking.getId(), notNullValue());
-        assertThat(firstBooking.getStart(), equalTo(LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0)));
-        assertThat(firstBooking.getEnd(), equalTo(LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0)));
+        assertThat(firstBooking.getStart(), equalTo(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0)));
+        assertThat(firstBooking.getEnd(), equalTo(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0)));
         assertThat(firstBooking.getStatus(), equalTo(BookingStatus.WAITING));
         assertThat(firstBooking.getBooker().getId(), equalTo(booker.getId()));
         assertThat(firstBooking.getItem().getId(), equalTo(item.getId()));
     }
 
+    @Test
+    void shouldNotCreateOverlappingBooking() {
+        BookingConflictException exception = assertThrows(BookingConflictException.class,
+                () -> bookingService.create(
+                        booker.getId(),
+                        setBookingShort(
+                                item.getId(),
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 11, 0, 0),
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 3, 12, 0, 0))));
+        assertEquals("The specified item id=" + item.getId() + " is already booked for the specified period",
+                exception.getMessage(), "Invalid message");
+    }
+
+    @Test
+    void shouldCreateAdjacentBookingAndBookingOverRejectedOne() {
+        BookingDto adjacentBooking = bookingService.create(
+                booker.getId(),
+                setBookingShort(
+                        item.getId(),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 3, 12, 0, 0)));
+        bookingService.patch(owner.getId(), firstBooking.getId(), false);
+        BookingDto replacingBooking = bookingService.create(
+                booker.getId(),
+                setBookingShort(
+                        item.getId(),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0)));
+
+        assertThat(adjacentBooking.getId(), notNullValue());
+        assertThat(replacingBooking.getId(), notNullValue());
+    }
+
     @Test
     void shouldNotCreateBookingByOwner() {
         ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
@@ -91,8 +132,8 @@ class BookingServiceIntegrationTest {
                         owner.getId(),
                         setBookingShort(
                                 item.getId(),
-                                LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
-                                LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0))));
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0))));
         assertEquals("Unable to create booking. The specified user id=" + owner.getId() +
                         " is the owner of item id=" + item.getId(),
                 exception.getMessage(), "Invalid message");
@@ -107,8 +148,8 @@ class BookingServiceIntegrationTest {
                         booker.getId(),
                         setBookingShort(
                                 item.getId(),
-                                LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
-                                LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0))));
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                                LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0))));
         assertEquals("The specified item id=" + item.getId() + " is not available",
                 exception.getMessage(), "Invalid message");
     }
@@ -123,17 +164,17 @@ class BookingServiceIntegrationTest {
 
     private static Stream<Arguments> provideDatesForValidationException() {
         return Stream.of(
-                Arguments.of(LocalDateTime.of(2022, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(PAST_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
                         "Wrong start data value"),
-                Arguments.of(LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2022, Month.SEPTEMBER, 2, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(PAST_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
                         "Wrong end data value"),
-                Arguments.of(LocalDateTime.of(2024, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(FUTURE_YEAR + 1, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
                         "Wrong end data value"),
-                Arguments.of(LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
                         "Start and end dates can`t be the same")
         );
     }
@@ -245,11 +286,11 @@ class BookingServiceIntegrationTest {
 
     private static Stream<Arguments> provideValuesForGetPastAndCurrentBookings() {
         return Stream.of(
-                Arguments.of(LocalDateTime.of(2022, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2022, Month.SEPTEMBER, 2, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(PAST_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(PAST_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
                         "PAST"),
-                Arguments.of(LocalDateTime.of(2022, Month.SEPTEMBER, 1, 12, 0, 0),
-                        LocalDateTime.of(2023, Month.SEPTEMBER, 2, 12, 0, 0),
+                Arguments.of(LocalDateTime.of(PAST_YEAR, Month.SEPTEMBER, 1, 12, 0, 0),
+                        LocalDateTime.of(FUTURE_YEAR, Month.SEPTEMBER, 2, 12, 0, 0),
                         "CURRENT")
         );
     }
@@ -295,6 +336,66 @@ class BookingServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    @Test
+    void shouldGetBookingsOfBookerAfterCursor() {
+        Slice<BookingDto> firstSlice = bookingService.getBookingsOfBookerAfter(booker.getId(), "ALL", "", 1);
+        BookingDto lastBooking = firstSlice.getContent().get(0);
+        Slice<BookingDto> secondSlice = bookingService.getBookingsOfBookerAfter(booker.getId(), "ALL",
+                CursorManager.encode(lastBooking.getStart(), lastBooking.getId()), 1);
+
+        assertThat(firstSlice.getContent(), hasSize(1));
+        assertThat(firstSlice.hasNext(), equalTo(true));
+        assertThat(lastBooking.getId(), equalTo(secondBooking.getId()));
+        assertThat(secondSlice.getContent(), hasSize(1));
+        assertThat(secondSlice.hasNext(), equalTo(false));
+        assertThat(secondSlice.getContent().get(0).getId(), equalTo(firstBooking.getId()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideValuesForGetPastAndCurrentBookings")
+    void shouldGetPastAndCurrentBookingsOfOwnerAfterCursor(LocalDateTime start, LocalDateTime end, String state) {
+        Booking booking = entityManager.find(Booking.class, firstBooking.getId());
+        booking.setStart(start);
+        booking.setEnd(end);
+        entityManager.merge(booking);
+
+        Slice<BookingDto> bookings = bookingService.getBookingsOfOwnerAfter(owner.getId(), state, "", 10);
+
+        assertThat(bookings.getContent(), hasSize(1));
+        assertThat(bookings.getContent().get(0).getId(), equalTo(firstBooking.getId()));
+    }
+
+    @Test
+    void shouldGetWaitingBookingsOfOwnerAfterCursor() {
+        Booking booking = entityManager.find(Booking.class, firstBooking.getId());
+        booking.setStatus(BookingStatus.APPROVED);
+        entityManager.merge(booking);
+
+        Slice<BookingDto> bookings = bookingService.getBookingsOfOwnerAfter(owner.getId(), "WAITING", "", 10);
+
+        assertThat(bookings.getContent(), hasSize(1));
+        assertThat(bookings.getContent().get(0).getId(), equalTo(secondBooking.getId()));
+    }
+
+    @Test
+    @DirtiesContext
+    void shouldGetBookingsOfOwnerWithoutStatementsPerBooking() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // Known user ids stay cached until the context is closed, so both counts run with the owner known
+        bookingService.getBookingsOfOwner(owner.getId(), "ALL", 0, 1);
+        try {
+            long singleBookingStatements = countStatementsOfOwnerBookings(statistics, 1);
+            long twoBookingsStatements = countStatementsOfOwnerBookings(statistics, 2);
+
+            assertThat(twoBookingsStatements, equalTo(singleBookingStatements));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void shouldGetAllBookingsOfOwner() {
         List<BookingDto> bookings = bookingService.getBookingsOfOwner(owner.getId(), "ALL", 0, 10);
@@ -359,6 +460,13 @@ class BookingServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    private long countStatementsOfOwnerBookings(Statistics statistics, Integer size) {
+        entityManager.clear();
+        statistics.clear();
+        assertThat(bookingService.getBookingsOfOwner(owner.getId(), "ALL", 0, size), hasSize(size));
+        return statistics.getPrepareStatementCount();
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
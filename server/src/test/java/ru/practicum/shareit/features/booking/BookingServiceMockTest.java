@@ -0,0 +1,93 @@
+package ru.practicum.shareit.features.booking;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exceptions.BookingConflictException;
+import ru.practicum.shareit.features.booking.model.Booking;
+import ru.practicum.shareit.features.booking.model.BookingShortDto;
+import ru.practicum.shareit.features.item.ItemService;
+import ru.practicum.shareit.features.item.model.Item;
+import ru.practicum.shareit.features.user.UserService;
+import ru.practicum.shareit.features.user.model.User;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BookingServiceMockTest {
+    static final int FUTURE_YEAR = LocalDateTime.now().getYear() + 1;
+    @InjectMocks
+    BookingServiceImpl bookingService;
+    @Mock
+    BookingRepository bookingRepository;
+    @Mock
+    UserService userService;
+    @Mock
+    ItemService itemService;
+    BookingShortDto bookingShortDto;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        User owner = new User();
+        owner.setId(1L);
+        Item item = new Item();
+        item.setId(1L);
+        item.setUser(owner);
+        item.setAvailable(true);
+        bookingShortDto = new BookingShortDto();
+        bookingShortDto.setItemId(item.getId());
+        bookingShortDto.setStart(LocalDateTime.of(FUTURE_YEAR, Month.MAY, 1, 12, 0, 0));
+        bookingShortDto.setEnd(LocalDateTime.of(FUTURE_YEAR, Month.MAY, 2, 12, 0, 0));
+        Mockito.when(itemService.getItemById(item.getId())).thenReturn(item);
+        Mockito.when(userService.getUserById(2L)).thenReturn(new User());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldReportExclusionViolationAsConflict() {
+        Mockito.when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        BookingConflictException exception = assertThrows(BookingConflictException.class,
+                () -> bookingService.create(2L, bookingShortDto));
+        assertEquals("The specified item id=1 is already booked for the specified period",
+                exception.getMessage(), "Invalid message");
+    }
+
+    @Test
+    void shouldRethrowOtherIntegrityViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("insert or update violates foreign key constraint", "23503"));
+        Mockito.when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> bookingService.create(2L, bookingShortDto));
+        assertEquals(violation, exception, "Invalid exception");
+    }
+}
@@ -2,12 +2,16 @@ package ru.practicum.shareit.features.item;
 
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.item.model.Comment;
+import ru.practicum.shareit.features.item.model.CommentView;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.user.model.User;
 
@@ -52,18 +56,63 @@ class CommentRepositoryTest {
     }
 
     @Test
-    void shouldFindCommentsByItemId() {
-        List<Comment> comments = commentRepository.findByItemId(item.getId());
-        Comment searchedComment = comments.get(0);
+    void shouldFindCommentViewsByItemIdIn() {
+        List<CommentView> comments = commentRepository.findLatestByItemIdIn(List.of(item.getId(), 99L), 10);
+        CommentView searchedComment = comments.get(0);
 
         assertThat(comments, hasSize(1));
         assertThat(searchedComment.getId(), equalTo(comment.getId()));
-        assertThat(searchedComment.getItem().getId(), equalTo(comment.getItem().getId()));
-        assertThat(searchedComment.getUser().getId(), equalTo(comment.getUser().getId()));
+        assertThat(searchedComment.getItemId(), equalTo(item.getId()));
         assertThat(searchedComment.getText(), equalTo(comment.getText()));
+        assertThat(searchedComment.getAuthorName(), equalTo(comment.getUser().getName()));
         assertThat(searchedComment.getCreated(), equalTo(comment.getCreated()));
     }
 
+    @Test
+    void shouldFindCommentViewsWithoutLoadingEntities() {
+        entityManager.clear();
+        List<CommentView> comments = commentRepository.findLatestByItemIdIn(List.of(item.getId()), 10);
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        assertThat(comments, hasSize(1));
+        assertThat(session.getStatistics().getEntityCount(), equalTo(0));
+    }
+
+    @Test
+    void shouldFindLatestCommentViewsUpToLimitPerItem() {
+        Comment newerComment = setComment("Newer comment", comment.getCreated().plusHours(1));
+
+        List<CommentView> comments = commentRepository.findLatestByItemIdIn(List.of(item.getId()), 1);
+
+        assertThat(comments, hasSize(1));
+        assertThat(comments.get(0).getId(), equalTo(newerComment.getId()));
+    }
+
+    @Test
+    void shouldFindCommentViewsByItemIdWithPages() {
+        Comment newerComment = setComment("Newer comment", comment.getCreated().plusHours(1));
+
+        Slice<CommentView> firstPage = commentRepository.findByItemId(item.getId(), PageRequest.of(0, 1));
+        Slice<CommentView> secondPage = commentRepository.findByItemId(item.getId(), PageRequest.of(1, 1));
+
+        assertThat(firstPage.hasNext(), equalTo(true));
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(newerComment.getId()));
+        assertThat(firstPage.getContent().get(0).getAuthorName(), equalTo(comment.getUser().getName()));
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(comment.getId()));
+        assertThat(secondPage.hasNext(), equalTo(false));
+    }
+
+    private Comment setComment(String text, LocalDateTime created) {
+        Comment newComment = new Comment();
+        newComment.setItem(item);
+        newComment.setUser(comment.getUser());
+        newComment.setText(text);
+        newComment.setCreated(created);
+        entityManager.persist(newComment);
+        entityManager.flush();
+        return newComment;
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
@@ -222,4 +222,21 @@ class ItemControllerTest {
         Mockito.verify(itemService, Mockito.times(1))
                 .postComment(1L, 1L, comment);
     }
+
+    @Test
+    void shouldGetComments() throws Exception {
+        when(itemService.getComments(anyLong(), anyLong(), anyInt(), anyInt()))
+                .thenReturn(List.of(comment));
+
+        mvc.perform(get("/items/{id}/comments", 1)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "0")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].authorName", is(comment.getAuthorName())))
+                .andExpect(jsonPath("$[0].text", is(comment.getText())));
+
+        Mockito.verify(itemService, Mockito.times(1))
+                .getComments(1L, 1L, 0, 5);
+    }
 }
\ No newline at end of file
@@ -2,16 +2,17 @@ package ru.practicum.shareit.features.item;
 
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.item.model.Item;
 import ru.practicum.shareit.features.item.model.ItemForRequest;
-import ru.practicum.shareit.features.item.model.ItemShort;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 import ru.practicum.shareit.features.user.model.User;
 
@@ -66,25 +67,26 @@ class ItemRepositoryTest {
         assertThat(itemForRequest.getName(), equalTo(item.getName()));
         assertThat(itemForRequest.getDescription(), equalTo(item.getDescription()));
         assertThat(itemForRequest.getAvailable(), equalTo(item.getAvailable()));
-        assertThat(itemForRequest.getItemRequest(), equalTo(item.getItemRequest()));
+        assertThat(itemForRequest.getRequestId(), equalTo(request.getId()));
     }
 
     @Test
-    void shouldFindItemById() {
-        Optional<ItemShort> itemShortOpt = itemRepository.findItemById(item.getId());
-        assertThat(itemShortOpt.isPresent(), equalTo(true));
+    void shouldFindByItemRequestIdInWithoutLoadingRequests() {
+        entityManager.clear();
+        List<ItemForRequest> items = itemRepository.findByItemRequestIdIn(List.of(request.getId(), 99L));
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
 
-        ItemShort itemShort = itemShortOpt.get();
-        assertThat(itemShort.getId(), equalTo(item.getId()));
-        assertThat(itemShort.getName(), equalTo(item.getName()));
+        assertThat(items, hasSize(1));
+        assertThat(items.get(0).getRequestId(), equalTo(request.getId()));
+        assertThat(session.getStatistics().getEntityCount(), equalTo(0));
     }
 
     @Test
     void shouldFindByUserId() {
-        Page<Item> items = itemRepository.findByUserIdOrderById(owner.getId(), Pageable.unpaged());
+        Slice<Item> items = itemRepository.findByUserIdOrderById(owner.getId(), Pageable.unpaged());
         Item searchedItem = items.getContent().get(0);
 
-        assertThat(items.getTotalElements(), equalTo(1L));
+        assertThat(items.getContent(), hasSize(1));
         assertThat(searchedItem.getId(), equalTo(item.getId()));
         assertThat(searchedItem.getUser(), equalTo(item.getUser()));
         assertThat(searchedItem.getName(), equalTo(item.getName()));
@@ -95,10 +97,10 @@ class ItemRepositoryTest {
 
     @Test
     void shouldGetSearchItemByName() {
-        Page<Item> items = itemRepository.getSearch("Item", Pageable.unpaged());
+        Slice<Item> items = itemRepository.getSearch("Item", Pageable.unpaged());
         Item searchedItem = items.getContent().get(0);
 
-        assertThat(items.getTotalElements(), equalTo(1L));
+        assertThat(items.getContent(), hasSize(1));
         assertThat(searchedItem.getId(), equalTo(item.getId()));
         assertThat(searchedItem.getUser(), equalTo(item.getUser()));
         assertThat(searchedItem.getName(), equalTo(item.getName()));
@@ -109,10 +111,10 @@ class ItemRepositoryTest {
 
     @Test
     void shouldGetSearchItemByDescription() {
-        Page<Item> items = itemRepository.getSearch("Description", Pageable.unpaged());
+        Slice<Item> items = itemRepository.getSearch("Description", Pageable.unpaged());
         Item searchedItem = items.getContent().get(0);
 
-        assertThat(items.getTotalElements(), equalTo(1L));
+        assertThat(items.getContent(), hasSize(1));
         assertThat(searchedItem.getId(), equalTo(item.getId()));
         assertThat(searchedItem.getUser(), equalTo(item.getUser()));
         assertThat(searchedItem.getName(), equalTo(item.getName()));
@@ -121,6 +123,25 @@ class ItemRepositoryTest {
         assertThat(searchedItem.getItemRequest(), equalTo(item.getItemRequest()));
     }
 
+    @Test
+    void shouldGetSearchInMatchedFieldOrder() {
+        Item namedItem = new Item();
+        namedItem.setUser(owner);
+        namedItem.setName("Description");
+        namedItem.setDescription("Other");
+        namedItem.setAvailable(true);
+        entityManager.persist(namedItem);
+        entityManager.flush();
+
+        Slice<Item> firstPage = itemRepository.getSearch("description", PageRequest.of(0, 1));
+        Slice<Item> secondPage = itemRepository.getSearch("description", PageRequest.of(1, 1));
+
+        assertThat(firstPage.hasNext(), equalTo(true));
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(namedItem.getId()));
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(item.getId()));
+        assertThat(secondPage.hasNext(), equalTo(false));
+    }
+
     @Test
     void shouldPatchItem() {
         itemRepository.patch(
@@ -138,6 +159,25 @@ class ItemRepositoryTest {
         assertThat(patchedItem.getAvailable(), equalTo(false));
     }
 
+    @Test
+    void shouldPatchOnlyGivenItemFields() {
+        Optional<Item> patchedItem = itemRepository.patch(owner.getId(), item.getId(), null, null, false);
+
+        assertThat(patchedItem.isPresent(), equalTo(true));
+        assertThat(patchedItem.get().getName(), equalTo(item.getName()));
+        assertThat(patchedItem.get().getDescription(), equalTo(item.getDescription()));
+        assertThat(patchedItem.get().getAvailable(), equalTo(false));
+        assertThat(patchedItem.get().getItemRequest().getId(), equalTo(request.getId()));
+    }
+
+    @Test
+    void shouldNotPatchItemOfOtherUser() {
+        Optional<Item> patchedItem = itemRepository.patch(owner.getId() + 1, item.getId(), "New item", null, null);
+
+        assertThat(patchedItem.isPresent(), equalTo(false));
+        assertThat(entityManager.find(Item.class, item.getId()).getName(), equalTo("Item"));
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
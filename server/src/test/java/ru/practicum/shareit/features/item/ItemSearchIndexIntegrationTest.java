@@ -0,0 +1,90 @@
+package ru.practicum.shareit.features.item;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.features.item.model.ItemDto;
+import ru.practicum.shareit.features.user.UserRepository;
+import ru.practicum.shareit.features.user.UserService;
+import ru.practicum.shareit.features.user.model.UserDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+// Not transactional: index updates are applied only after the service transaction commits
+@SpringBootTest(
+        properties = {"db.name=test", "shareit.search.index.enabled=true"},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ItemSearchIndexIntegrationTest {
+    final ItemService itemService;
+    final ItemSearchIndex itemSearchIndex;
+    final UserService userService;
+    final UserRepository userRepository;
+    Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        UserDto userDto = new UserDto();
+        userDto.setName("Index owner");
+        userDto.setEmail("index_owner@email.com");
+        ownerId = userService.create(userDto).getId();
+    }
+
+    // Deleting the item cascades to its owner
+    @AfterEach
+    void tearDown() {
+        if (userRepository.existsById(ownerId)) {
+            userService.deleteById(ownerId);
+        }
+    }
+
+    @Test
+    void shouldBeReadyAfterStartup() {
+        assertThat(itemSearchIndex.isReady(), equalTo(true));
+    }
+
+    @Test
+    void shouldIndexCommittedChanges() {
+        Long itemId = itemService.create(ownerId, setItemDto()).getId();
+        assertThat(itemSearchIndex.search("Indexed drill", 0, 10), contains(itemId));
+        assertThat(getSearchIds("Indexed drill"), contains(itemId));
+
+        itemService.patch(ownerId, itemId, "{\"name\": \"Indexed saw\"}");
+        assertThat(itemSearchIndex.search("Indexed drill", 0, 10), empty());
+        assertThat(itemSearchIndex.search("Indexed saw", 0, 10), contains(itemId));
+
+        itemService.patch(ownerId, itemId, "{\"available\": false}");
+        assertThat(itemSearchIndex.search("Indexed saw", 0, 10), empty());
+
+        itemService.patch(ownerId, itemId, "{\"available\": true}");
+        assertThat(itemSearchIndex.search("Indexed saw", 0, 10), contains(itemId));
+
+        itemService.deleteById(ownerId, itemId);
+        assertThat(itemSearchIndex.search("Indexed saw", 0, 10), empty());
+        assertThat(getSearchIds("Indexed saw"), empty());
+    }
+
+    private List<Long> getSearchIds(String text) {
+        return itemService.getSearch(ownerId, text, 0, 10).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private ItemDto setItemDto() {
+        ItemDto itemDto = new ItemDto();
+        itemDto.setName("Indexed drill");
+        itemDto.setDescription("Description");
+        itemDto.setAvailable(true);
+        return itemDto;
+    }
+}
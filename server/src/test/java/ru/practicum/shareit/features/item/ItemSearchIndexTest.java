@@ -0,0 +1,149 @@
+package ru.practicum.shareit.features.item;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.features.item.model.Item;
+import ru.practicum.shareit.features.item.model.ItemForSearch;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ItemSearchIndexTest {
+    @Mock
+    ItemRepository itemRepository;
+    ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex = new ItemSearchIndex(itemRepository, true);
+        itemSearchIndex.index(setItem(1L, "Drill", "Powerful drill", true));
+        itemSearchIndex.index(setItem(2L, "Hammer", "Heavy hammer for drill bits", true));
+        itemSearchIndex.index(setItem(3L, "Screwdriver", "Cordless", false));
+    }
+
+    @Test
+    void shouldSearchByNameFirstThenByDescription() {
+        assertThat(itemSearchIndex.search("dRiL", 0, 10), contains(1L, 2L));
+        assertThat(itemSearchIndex.search("hammer", 0, 10), contains(2L));
+        assertThat(itemSearchIndex.search("saw", 0, 10), empty());
+    }
+
+    @Test
+    void shouldSearchShortTextBySubstring() {
+        assertThat(itemSearchIndex.search("dr", 0, 10), contains(1L, 2L));
+    }
+
+    @Test
+    void shouldSkipUnavailableItems() {
+        assertThat(itemSearchIndex.search("screw", 0, 10), empty());
+
+        itemSearchIndex.index(setItem(3L, "Screwdriver", "Cordless", true));
+        assertThat(itemSearchIndex.search("screw", 0, 10), contains(3L));
+
+        itemSearchIndex.index(setItem(1L, "Drill", "Powerful drill", false));
+        assertThat(itemSearchIndex.search("drill", 0, 10), contains(2L));
+    }
+
+    @Test
+    void shouldReindexPatchedAndDeletedItems() {
+        itemSearchIndex.index(setItem(1L, "Saw", "Sharp saw", true));
+        assertThat(itemSearchIndex.search("drill", 0, 10), contains(2L));
+        assertThat(itemSearchIndex.search("saw", 0, 10), contains(1L));
+
+        itemSearchIndex.delete(2L);
+        assertThat(itemSearchIndex.search("drill", 0, 10), empty());
+    }
+
+    @Test
+    void shouldSearchWithPages() {
+        assertThat(itemSearchIndex.search("drill", 1, 1), contains(2L));
+        assertThat(itemSearchIndex.search("drill", 2, 1), empty());
+    }
+
+    @Test
+    void shouldBuildFromRepository() {
+        Mockito.when(itemRepository.findByAvailableTrue()).thenReturn(List.of());
+        assertThat(itemSearchIndex.isReady(), equalTo(false));
+        itemSearchIndex.build();
+
+        assertThat(itemSearchIndex.isReady(), equalTo(true));
+        assertThat(itemSearchIndex.search("drill", 0, 10), empty());
+    }
+
+    @Test
+    void shouldNotBeReadyWhenDisabled() {
+        ItemSearchIndex disabledIndex = new ItemSearchIndex(itemRepository, false);
+        disabledIndex.build();
+
+        assertThat(disabledIndex.isReady(), equalTo(false));
+        Mockito.verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void shouldBuildSortedPostingsFromRepository() {
+        Mockito.when(itemRepository.findByAvailableTrue()).thenReturn(List.of(
+                setItemForSearch(5L, "Drill", "Powerful drill"),
+                setItemForSearch(2L, "Hammer", "Heavy hammer for drill bits"),
+                setItemForSearch(9L, "Drill press", "Bench drill")));
+        itemSearchIndex.build();
+
+        assertThat(itemSearchIndex.search("drill", 0, 10), contains(5L, 9L, 2L));
+        assertThat(itemSearchIndex.search("screw", 0, 10), empty());
+    }
+
+    @Test
+    void shouldApplyUpdateCommittedWhileBuilding() throws Exception {
+        Thread[] updater = new Thread[1];
+        Mockito.when(itemRepository.findByAvailableTrue()).thenAnswer(invocation -> {
+            updater[0] = new Thread(() -> itemSearchIndex.index(setItem(7L, "Saw", "Sharp saw", true)));
+            updater[0].start();
+            while (updater[0].getState() != Thread.State.WAITING && updater[0].isAlive()) {
+                Thread.onSpinWait();
+            }
+            return List.of(setItemForSearch(1L, "Drill", "Powerful drill"));
+        });
+        itemSearchIndex.build();
+        updater[0].join();
+
+        assertThat(itemSearchIndex.search("saw", 0, 10), contains(7L));
+        assertThat(itemSearchIndex.search("drill", 0, 10), contains(1L));
+    }
+
+    private ItemForSearch setItemForSearch(Long id, String name, String description) {
+        return new ItemForSearch() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+
+    private Item setItem(Long id, String name, String description, Boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+}
\ No newline at end of file
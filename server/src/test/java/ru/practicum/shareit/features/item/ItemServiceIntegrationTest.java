@@ -3,10 +3,13 @@ package ru.practicum.shareit.features.item;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
@@ -16,6 +19,7 @@ import ru.practicum.shareit.features.booking.model.BookingStatus;
 import ru.practicum.shareit.features.item.model.*;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.CursorManager;
 
 import javax.persistence.EntityManager;
 
@@ -37,6 +41,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 class ItemServiceIntegrationTest {
+    static final int PAST_YEAR = LocalDateTime.now().getYear() - 1;
+    static final int FUTURE_YEAR = LocalDateTime.now().getYear() + 1;
     final EntityManager entityManager;
     final ItemService itemService;
     ItemDto itemDto;
@@ -54,33 +60,33 @@ class ItemServiceIntegrationTest {
         itemDto = itemService.create(owner.getId(), setItemDto(null));
         lastBooking = setBooking(
                 booker,
-                LocalDateTime.of(2023, Month.MAY, 1, 12, 0, 0),
-                LocalDateTime.of(2023, Month.MAY, 2, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.MAY, 1, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.MAY, 2, 12, 0, 0),
                 BookingStatus.WAITING);
         setBooking(
                 booker,
-                LocalDateTime.of(2023, Month.APRIL, 1, 12, 0, 0),
-                LocalDateTime.of(2023, Month.APRIL, 2, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.APRIL, 1, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.APRIL, 2, 12, 0, 0),
                 BookingStatus.WAITING);
         setBooking(
                 booker,
-                LocalDateTime.of(2023, Month.MAY, 3, 12, 0, 0),
-                LocalDateTime.of(2023, Month.MAY, 4, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.MAY, 3, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.MAY, 4, 12, 0, 0),
                 BookingStatus.REJECTED);
         nextBooking = setBooking(
                 booker,
-                LocalDateTime.of(2024, Month.MAY, 1, 12, 0, 0),
-                LocalDateTime.of(2024, Month.MAY, 2, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.MAY, 1, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.MAY, 2, 12, 0, 0),
                 BookingStatus.WAITING);
         setBooking(
                 booker,
-                LocalDateTime.of(2024, Month.MAY, 3, 12, 0, 0),
-                LocalDateTime.of(2024, Month.MAY, 4, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.MAY, 3, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.MAY, 4, 12, 0, 0),
                 BookingStatus.WAITING);
         setBooking(
                 booker,
-                LocalDateTime.of(2024, Month.APRIL, 3, 12, 0, 0),
-                LocalDateTime.of(2024, Month.APRIL, 4, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.APRIL, 3, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.APRIL, 4, 12, 0, 0),
                 BookingStatus.REJECTED);
         comment = setComment();
         request = setRequest();
@@ -159,6 +165,27 @@ class ItemServiceIntegrationTest {
         assertThat(ownerItem.getComments(), hasSize(1));
     }
 
+    @Test
+    void shouldGetItemDtoWithoutLoadingAssociations() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        entityManager.flush();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // Item row, last and next booking, latest comments
+            assertThat(countItemDtoStatements(statistics, owner.getId()), equalTo(4L));
+            assertThat(statistics.getEntityLoadCount(), equalTo(1L));
+            assertThat(statistics.getEntityFetchCount(), equalTo(0L));
+            // Item row, latest comments
+            assertThat(countItemDtoStatements(statistics, booker.getId()), equalTo(2L));
+            assertThat(statistics.getEntityLoadCount(), equalTo(1L));
+            assertThat(statistics.getEntityFetchCount(), equalTo(0L));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void shouldNotGetItemDtoByWrongId() {
         ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
@@ -184,21 +211,36 @@ class ItemServiceIntegrationTest {
     }
 
     @Test
-    void shouldGetItemShortById() {
-        Long itemId = itemDto.getId();
-        ItemShortDto itemShortDto = itemService.getItemShortById(itemId);
-
-        assertThat(itemShortDto.getId(), equalTo(itemId));
-        assertThat(itemShortDto.getName(), equalTo(itemDto.getName()));
+    void shouldGetAllOwnerItemsAfterCursor() {
+        ItemDto otherItemDto = itemService.create(owner.getId(), setItemDto(null));
+        Slice<ItemDto> firstSlice = itemService.getAllOwnerItemsAfter(owner.getId(), "", 1);
+        Slice<ItemDto> secondSlice = itemService.getAllOwnerItemsAfter(owner.getId(),
+                CursorManager.encode(firstSlice.getContent().get(0).getId()), 1);
+
+        assertThat(firstSlice.getContent(), hasSize(1));
+        assertThat(firstSlice.hasNext(), equalTo(true));
+        assertThat(firstSlice.getContent().get(0).getId(), equalTo(itemDto.getId()));
+        assertThat(firstSlice.getContent().get(0).getLastBooking(), equalTo(BookingMapper.toBookingQueue(lastBooking)));
+        assertThat(firstSlice.getContent().get(0).getComments(), hasSize(1));
+        assertThat(secondSlice.getContent(), hasSize(1));
+        assertThat(secondSlice.hasNext(), equalTo(false));
+        assertThat(secondSlice.getContent().get(0).getId(), equalTo(otherItemDto.getId()));
+    }
 
-        entityManager.createQuery("DELETE from Item where id = :id")
-                .setParameter("id", itemId)
-                .executeUpdate();
+    @Test
+    void shouldGetAllOwnerItemsWithOwnBookingsAndComments() {
+        ItemDto otherItemDto = itemService.create(owner.getId(), setItemDto(null));
+        List<ItemDto> items = itemService.getAllOwnerItems(owner.getId(), 0, 10);
 
-        ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
-                () -> itemService.getItemShortById(itemId));
-        assertEquals("The specified item id=" + itemId + " does not exist",
-                exception.getMessage(), "Invalid message");
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getId(), equalTo(itemDto.getId()));
+        assertThat(items.get(0).getLastBooking(), equalTo(BookingMapper.toBookingQueue(lastBooking)));
+        assertThat(items.get(0).getNextBooking(), equalTo(BookingMapper.toBookingQueue(nextBooking)));
+        assertThat(items.get(0).getComments(), hasSize(1));
+        assertThat(items.get(1).getId(), equalTo(otherItemDto.getId()));
+        assertThat(items.get(1).getLastBooking(), equalTo(null));
+        assertThat(items.get(1).getNextBooking(), equalTo(null));
+        assertThat(items.get(1).getComments(), hasSize(0));
     }
 
     @Test
@@ -235,6 +277,24 @@ class ItemServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    @Test
+    void shouldPatchItemInSingleStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            itemService.patch(owner.getId(), itemDto.getId(), "{ \"available\": false }");
+
+            assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void shouldNotPatchItemByOtherUser() {
         String json = "{ \"name\": \"New item\", \"description\": \"New description\", \"available\": \"false\" }";
@@ -245,6 +305,16 @@ class ItemServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    @Test
+    void shouldNotPatchNotExistingItem() {
+        Long itemId = itemDto.getId() + 100;
+
+        ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
+                () -> itemService.patch(owner.getId(), itemId, "{ \"available\": false }"));
+        assertEquals("The specified item id=" + itemId + " does not exist",
+                exception.getMessage(), "Invalid message");
+    }
+
     @Test
     void shouldDeleteItemByOwner() {
         itemService.deleteById(owner.getId(), itemDto.getId());
@@ -291,6 +361,48 @@ class ItemServiceIntegrationTest {
         assertThat(searchedItem.getRequestId(), equalTo(itemDto.getRequestId()));
     }
 
+    @Test
+    void shouldGetCommentsWithPages() {
+        List<CommentDto> comments = itemService.getComments(owner.getId(), itemDto.getId(), 0, 10);
+
+        assertThat(comments, hasSize(1));
+        assertThat(comments.get(0).getId(), equalTo(comment.getId()));
+        assertThat(comments.get(0).getAuthorName(), equalTo(booker.getName()));
+        assertThat(itemService.getComments(owner.getId(), itemDto.getId(), 1, 1), empty());
+    }
+
+    @Test
+    void shouldGetCommentsWithoutLoadingEntities() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        entityManager.flush();
+        itemService.getComments(owner.getId(), itemDto.getId(), 0, 10);
+        entityManager.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            List<CommentDto> comments = itemService.getComments(owner.getId(), itemDto.getId(), 0, 10);
+
+            assertThat(comments.get(0).getAuthorName(), equalTo(booker.getName()));
+            // Item existence check, comment rows with author names
+            assertThat(statistics.getPrepareStatementCount(), equalTo(2L));
+            assertThat(statistics.getEntityLoadCount(), equalTo(0L));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void shouldNotGetCommentsOfNotExistingItem() {
+        Long itemId = itemDto.getId() + 100;
+
+        ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
+                () -> itemService.getComments(owner.getId(), itemId, 0, 10));
+        assertEquals("The specified item id=" + itemId + " does not exist",
+                exception.getMessage(), "Invalid message");
+    }
+
     @Test
     void shouldPostCommentByBooker() {
         CommentDto newComment = setNewComment();
@@ -299,7 +411,7 @@ class ItemServiceIntegrationTest {
         assertThat(postedComment.getId(), notNullValue());
         assertThat(postedComment.getAuthorName(), equalTo(comment.getUser().getName()));
         assertThat(postedComment.getText(), equalTo(comment.getText()));
-        assertThat(postedComment.getCreated(), equalTo(comment.getCreated()));
+        assertThat(postedComment.getCreated(), equalTo(newComment.getCreated()));
     }
 
     @Test
@@ -328,8 +440,8 @@ class ItemServiceIntegrationTest {
         User stealBooker = setUser("New user", "new_user@email.com");
         setBooking(
                 stealBooker,
-                LocalDateTime.of(2023, Month.MAY, 6, 12, 0, 0),
-                LocalDateTime.of(2024, Month.FEBRUARY, 1, 12, 0, 0),
+                LocalDateTime.of(PAST_YEAR, Month.MAY, 6, 12, 0, 0),
+                LocalDateTime.of(FUTURE_YEAR, Month.FEBRUARY, 1, 12, 0, 0),
                 BookingStatus.APPROVED);
         CommentDto newComment = setNewComment();
 
@@ -339,6 +451,15 @@ class ItemServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    private long countItemDtoStatements(Statistics statistics, Long userId) {
+        entityManager.clear();
+        statistics.clear();
+        ItemDto item = itemService.getItemDtoById(userId, itemDto.getId());
+        assertThat(item.getOwnerId(), equalTo(owner.getId()));
+        assertThat(item.getComments(), hasSize(1));
+        return statistics.getPrepareStatementCount();
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
@@ -69,7 +69,7 @@ class ItemRequestControllerTest {
 
     @Test
     void shouldGetUserRequests() throws Exception {
-        when(itemRequestService.getUserRequests(anyLong()))
+        when(itemRequestService.getUserRequests(anyLong(), anyInt(), anyInt()))
                 .thenReturn(List.of(request));
 
         mvc.perform(get("/requests")
@@ -82,7 +82,7 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].items", is(request.getItems())));
 
         Mockito.verify(itemRequestService, Mockito.times(1))
-                .getUserRequests(1L);
+                .getUserRequests(1L, 0, 10);
     }
 
     @Test
@@ -7,8 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.features.request.ItemRequestRepository;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 import ru.practicum.shareit.features.user.model.User;
@@ -41,10 +41,10 @@ class ItemRequestRepositoryTest {
 
     @Test
     void shouldFindUserRequests() {
-        List<ItemRequest> requests = requestRepository.findByUserIdOrderByCreatedDesc(user.getId());
-        ItemRequest request = requests.get(0);
+        Slice<ItemRequest> requests = requestRepository.findByUserIdOrderByCreatedDescIdDesc(user.getId(), Pageable.unpaged());
+        ItemRequest request = requests.getContent().get(0);
 
-        assertThat(requests, hasSize(1));
+        assertThat(requests.getContent(), hasSize(1));
         assertThat(request.getId(), equalTo(userRequest.getId()));
         assertThat(request.getUser(), equalTo(userRequest.getUser()));
         assertThat(request.getDescription(), equalTo(userRequest.getDescription()));
@@ -53,10 +53,10 @@ class ItemRequestRepositoryTest {
 
     @Test
     void shouldFindOtherRequests() {
-        Page<ItemRequest> requests = requestRepository.findByUserIdNotOrderByCreatedDesc(user.getId(), Pageable.unpaged());
+        Slice<ItemRequest> requests = requestRepository.findByUserIdNotOrderByCreatedDesc(user.getId(), Pageable.unpaged());
         ItemRequest request = requests.getContent().get(0);
 
-        assertThat(requests.getTotalElements(), equalTo(1L));
+        assertThat(requests.getContent(), hasSize(1));
         assertThat(request.getId(), equalTo(otherRequest.getId()));
         assertThat(request.getUser(), equalTo(otherRequest.getUser()));
         assertThat(request.getDescription(), equalTo(otherRequest.getDescription()));
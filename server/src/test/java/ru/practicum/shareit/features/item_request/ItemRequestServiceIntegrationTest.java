@@ -3,10 +3,13 @@ package ru.practicum.shareit.features.item_request;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
 import ru.practicum.shareit.features.item.model.Item;
@@ -14,6 +17,7 @@ import ru.practicum.shareit.features.request.ItemRequestService;
 import ru.practicum.shareit.features.request.model.ItemRequest;
 import ru.practicum.shareit.features.request.model.ItemRequestDto;
 import ru.practicum.shareit.features.user.model.User;
+import ru.practicum.shareit.utility.CursorManager;
 
 import javax.persistence.EntityManager;
 
@@ -58,7 +62,7 @@ class ItemRequestServiceIntegrationTest {
 
     @Test
     void shouldReturnUserRequests() {
-        List<ItemRequestDto> requestDtoList = itemRequestService.getUserRequests(requester.getId());
+        List<ItemRequestDto> requestDtoList = itemRequestService.getUserRequests(requester.getId(), 0, 10);
         ItemRequestDto itemRequestDto = requestDtoList.get(0);
 
         assertThat(requestDtoList.size(), equalTo(1));
@@ -68,6 +72,38 @@ class ItemRequestServiceIntegrationTest {
         assertThat(itemRequestDto.getItems().size(), equalTo(1));
     }
 
+    @Test
+    void shouldReturnUserRequestsWithPages() {
+        ItemRequestDto otherRequest = itemRequestService.createRequest(requester.getId(), setRequest());
+        List<ItemRequestDto> firstPage = itemRequestService.getUserRequests(requester.getId(), 0, 1);
+        List<ItemRequestDto> secondPage = itemRequestService.getUserRequests(requester.getId(), 1, 1);
+
+        assertThat(firstPage, hasSize(1));
+        assertThat(secondPage, hasSize(1));
+        assertThat(firstPage.get(0).getId(), not(equalTo(secondPage.get(0).getId())));
+        assertThat(List.of(firstPage.get(0).getId(), secondPage.get(0).getId()),
+                containsInAnyOrder(request.getId(), otherRequest.getId()));
+    }
+
+    @Test
+    void shouldGetAllRequestsWithoutStatementsPerRequest() {
+        itemRequestService.createRequest(requester.getId(), setRequest());
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            itemRequestService.getAllRequests(owner.getId(), 0, 1);
+            long singleRequestStatements = countStatementsOfAllRequests(statistics, 1);
+            long twoRequestsStatements = countStatementsOfAllRequests(statistics, 2);
+
+            assertThat(twoRequestsStatements, equalTo(singleRequestStatements));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void shouldGetAllRequests() {
         List<ItemRequestDto> requestDtoList = itemRequestService.getAllRequests(owner.getId(), 0, 10);
@@ -80,6 +116,23 @@ class ItemRequestServiceIntegrationTest {
         assertThat(itemRequestDto.getItems().size(), equalTo(1));
     }
 
+    @Test
+    void shouldGetAllRequestsAfterCursor() {
+        ItemRequestDto otherRequest = itemRequestService.createRequest(requester.getId(), setRequest());
+        Slice<ItemRequestDto> firstSlice = itemRequestService.getAllRequestsAfter(owner.getId(), "", 1);
+        ItemRequestDto lastRequest = firstSlice.getContent().get(0);
+        Slice<ItemRequestDto> secondSlice = itemRequestService.getAllRequestsAfter(owner.getId(),
+                CursorManager.encode(lastRequest.getCreated(), lastRequest.getId()), 1);
+
+        assertThat(firstSlice.getContent(), hasSize(1));
+        assertThat(firstSlice.hasNext(), equalTo(true));
+        assertThat(lastRequest.getId(), equalTo(otherRequest.getId()));
+        assertThat(secondSlice.getContent(), hasSize(1));
+        assertThat(secondSlice.hasNext(), equalTo(false));
+        assertThat(secondSlice.getContent().get(0).getId(), equalTo(request.getId()));
+        assertThat(secondSlice.getContent().get(0).getItems(), hasSize(1));
+    }
+
     @Test
     void shouldGetRequestById() {
         ItemRequestDto itemRequestDto = itemRequestService.getRequestById(requester.getId(), request.getId());
@@ -98,6 +151,13 @@ class ItemRequestServiceIntegrationTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    private long countStatementsOfAllRequests(Statistics statistics, Integer size) {
+        entityManager.clear();
+        statistics.clear();
+        assertThat(itemRequestService.getAllRequests(owner.getId(), 0, size), hasSize(size));
+        return statistics.getPrepareStatementCount();
+    }
+
     private User setUser(String name, String email) {
         User user = new User();
         user.setName(name);
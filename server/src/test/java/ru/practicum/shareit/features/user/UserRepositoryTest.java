@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import ru.practicum.shareit.features.user.model.User;
-import ru.practicum.shareit.features.user.model.UserShort;
 
 import java.util.Optional;
 
@@ -33,15 +32,6 @@ class UserRepositoryTest {
         entityManager.flush();
     }
 
-    @Test
-    void shouldFindUserShort() {
-        Optional<UserShort> userShortOpt = userRepository.findUserById(user.getId());
-        assertThat(userShortOpt.isPresent(), equalTo(true));
-
-        UserShort userShort = userShortOpt.get();
-        assertThat(userShort.getId(), equalTo(user.getId()));
-    }
-
     @Test
     void shouldPatchUser() {
         userRepository.patch(
@@ -54,4 +44,18 @@ class UserRepositoryTest {
         assertThat(patchedUser.getName(), equalTo("Jane Doe"));
         assertThat(patchedUser.getEmail(), equalTo("jane_doe@email.com"));
     }
+
+    @Test
+    void shouldPatchOnlyGivenUserFields() {
+        Optional<User> patchedUser = userRepository.patch(user.getId(), null, "jane_doe@email.com");
+
+        assertThat(patchedUser.isPresent(), equalTo(true));
+        assertThat(patchedUser.get().getName(), equalTo(user.getName()));
+        assertThat(patchedUser.get().getEmail(), equalTo("jane_doe@email.com"));
+    }
+
+    @Test
+    void shouldNotPatchNotExistingUser() {
+        assertThat(userRepository.patch(user.getId() + 1, "Jane Doe", null).isPresent(), equalTo(false));
+    }
 }
\ No newline at end of file
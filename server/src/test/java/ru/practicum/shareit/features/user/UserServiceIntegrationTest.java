@@ -15,7 +15,6 @@ import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.features.user.model.User;
 import ru.practicum.shareit.features.user.model.UserDto;
-import ru.practicum.shareit.features.user.model.UserShortDto;
 
 import javax.persistence.EntityManager;
 
@@ -64,22 +63,6 @@ class UserServiceIntegrationTest {
         assertThat(expectedUserDto.getEmail(), equalTo(user.getEmail()));
     }
 
-    @Test
-    void shouldGetUserShortById() {
-        User user = savedUser();
-        Long userId = user.getId();
-        UserShortDto userShort = userService.getUserShortById(userId);
-
-        assertThat(userShort.getId(), equalTo(userId));
-
-        entityManager.remove(user);
-
-        ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
-                () -> userService.getUserShortById(userId));
-        assertEquals("The specified user id=" + userId + " does not exist",
-                exception.getMessage(), "Invalid message");
-    }
-
     @Test
     void shouldGetAndDeleteUserById() {
         User user = savedUser();
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.features.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.Assertions;
@@ -14,8 +15,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.exceptions.ArgumentNotFoundException;
 import ru.practicum.shareit.features.user.model.User;
 import ru.practicum.shareit.features.user.model.UserDto;
+import ru.practicum.shareit.utility.JsonMergePatcher;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -31,6 +34,8 @@ class UserServiceMockTest {
     UserServiceImpl userService;
     @Mock
     UserRepository userRepository;
+    @Spy
+    JsonMergePatcher jsonMergePatcher = new JsonMergePatcher(new ObjectMapper());
     UserDto userDto;
     User user;
     User patchedUser;
@@ -89,6 +94,33 @@ class UserServiceMockTest {
                 exception.getMessage(), "Invalid message");
     }
 
+    @Test
+    void shouldCheckExistenceOfKnownUserIdOnce() {
+        Mockito
+                .when(userRepository.existsById(1L))
+                .thenReturn(true);
+        userService.validateUserId(1L);
+        userService.validateUserId(1L);
+        Mockito.verify(userRepository, Mockito.times(1))
+                .existsById(1L);
+        Mockito.verify(userRepository, Mockito.never())
+                .findById(anyLong());
+    }
+
+    @Test
+    void shouldForgetDeletedUserId() {
+        Mockito
+                .when(userRepository.existsById(1L))
+                .thenReturn(true)
+                .thenReturn(false);
+        userService.validateUserId(1L);
+        userService.deleteById(1L);
+
+        assertThrows(ArgumentNotFoundException.class, () -> userService.validateUserId(1L));
+        Mockito.verify(userRepository, Mockito.times(2))
+                .existsById(1L);
+    }
+
     @Test
     void shouldGetUserById() {
         setMockForUserValidation();
@@ -112,20 +144,23 @@ class UserServiceMockTest {
 
     @Test
     void shouldPatchUser() {
-        setMockForUserValidation();
-        Mockito
-                .when(userRepository.getReferenceById(anyLong()))
-                .thenReturn(user)
-                .thenReturn(patchedUser);
         Mockito
-                .doNothing()
-                .when(userRepository).patch(anyLong(), anyString(), anyString());
+                .when(userRepository.patch(anyLong(), anyString(), any()))
+                .thenReturn(Optional.of(patchedUser));
 
-        Assertions.assertEquals(userService.patch(anyLong(), anyString()), UserMapper.toUserDto(patchedUser));
-        Mockito.verify(userRepository, Mockito.times(2))
+        Assertions.assertEquals(userService.patch(1L, "{\"name\":\"Jane Doe\"}"), UserMapper.toUserDto(patchedUser));
+        Mockito.verify(userRepository, Mockito.never())
                 .getReferenceById(anyLong());
         Mockito.verify(userRepository, Mockito.times(1))
-                .patch(anyLong(), anyString(), anyString());
+                .patch(1L, "Jane Doe", null);
+    }
+
+    @Test
+    void shouldNotPatchNotExistingUser() {
+        ArgumentNotFoundException exception = assertThrows(ArgumentNotFoundException.class,
+                () -> userService.patch(1L, "{\"name\":\"Jane Doe\"}"));
+        assertEquals("The specified user id=1 does not exist",
+                exception.getMessage(), "Invalid message");
     }
 
     private void setMockForUserValidation() {
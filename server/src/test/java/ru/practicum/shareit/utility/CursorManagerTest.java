@@ -0,0 +1,67 @@
+package ru.practicum.shareit.utility;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exceptions.ValidationException;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorManagerTest {
+
+    @Test
+    void shouldDecodeEncodedId() {
+        assertThat(CursorManager.decodeId(CursorManager.encode(42L)), equalTo(42L));
+    }
+
+    @Test
+    void shouldDecodeEncodedTimestampAndId() {
+        LocalDateTime timestamp = LocalDateTime.of(2023, Month.SEPTEMBER, 1, 12, 0, 0);
+        Cursor cursor = CursorManager.decodeTimestampId(CursorManager.encode(timestamp, 42L));
+
+        assertThat(cursor.getTimestamp(), equalTo(timestamp));
+        assertThat(cursor.getId(), equalTo(42L));
+    }
+
+    @Test
+    void shouldDecodeEmptyCursorAsFirstPage() {
+        Cursor cursor = CursorManager.decodeTimestampId("");
+
+        assertThat(CursorManager.decodeId(""), equalTo(0L));
+        assertThat(cursor.getTimestamp(), equalTo(CursorManager.MAX_TIMESTAMP));
+        assertThat(cursor.getId(), equalTo(Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "YWJj", "MjAyMy0wOS0wMQ"})
+    void shouldNotDecodeInvalidCursor(String cursor) {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> CursorManager.decodeTimestampId(cursor));
+        assertEquals("Invalid cursor: " + cursor, exception.getMessage(), "Invalid message");
+        assertThrows(ValidationException.class, () -> CursorManager.decodeId(cursor));
+    }
+
+    @Test
+    void shouldSetNextCursorHeaderOnlyThenSliceHasNext() {
+        ResponseEntity<List<Long>> firstResponse = CursorManager.toResponse(
+                new SliceImpl<>(List.of(1L, 2L), PageRequest.of(0, 2), true), CursorManager::encode);
+        ResponseEntity<List<Long>> lastResponse = CursorManager.toResponse(
+                new SliceImpl<>(List.of(3L), PageRequest.of(0, 2), false), CursorManager::encode);
+
+        assertThat(firstResponse.getBody(), contains(1L, 2L));
+        assertThat(firstResponse.getHeaders().getFirst(CursorManager.NEXT_CURSOR_HEADER),
+                equalTo(CursorManager.encode(2L)));
+        assertThat(lastResponse.getBody(), contains(3L));
+        assertThat(lastResponse.getHeaders().containsKey(CursorManager.NEXT_CURSOR_HEADER), equalTo(false));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.utility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.practicum.shareit.exceptions.ValidationException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonMergePatcherTest {
+    private final JsonMergePatcher jsonMergePatcher = new JsonMergePatcher(new ObjectMapper());
+    private final Map<String, Object> patched = new HashMap<>();
+
+    @Test
+    void shouldStreamKnownFieldsAndSkipOthers() {
+        jsonMergePatcher.apply(
+                "{\"name\":\"Drill\",\"owner\":{\"id\":1,\"tags\":[\"a\"]},\"available\":true,\"other\":[1,2]}",
+                "Error",
+                (field, parser) -> {
+                    switch (field) {
+                        case "name":
+                            patched.put(field, parser.getValueAsString());
+                            return true;
+                        case "available":
+                            patched.put(field, parser.getValueAsBoolean());
+                            return true;
+                        default:
+                            return false;
+                    }
+                });
+
+        assertThat(patched, equalTo(Map.of("name", "Drill", "available", true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"available\":{\"name\":\"x\"}}", "{\"available\":[{\"name\":\"x\"}]}"})
+    void shouldNotApplyStructuredValueOfKnownField(String json) {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> jsonMergePatcher.apply(json, "Error", (field, parser) -> {
+                    patched.put(field, parser.getValueAsBoolean());
+                    return true;
+                }));
+        assertEquals("Error", exception.getMessage(), "Invalid message");
+        assertThat(patched.containsKey("name"), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    void shouldIgnoreEmptyBody(String json) {
+        jsonMergePatcher.apply(json, "Error", (field, parser) -> patched.put(field, field) == null);
+        assertThat(patched.isEmpty(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"name\":", "[]", "\"name\"", "{name:1}"})
+    void shouldNotApplyMalformedBody(String json) {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> jsonMergePatcher.apply(json, "Error", (field, parser) -> false));
+        assertEquals("Error", exception.getMessage(), "Invalid message");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.utility;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedLockTest {
+    private final StripedLock stripedLock = new StripedLock(4);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRequireActiveTransaction() {
+        assertThrows(IllegalStateException.class, () -> stripedLock.lockUntilCompletion(1L));
+    }
+
+    @Test
+    void shouldHoldLockUntilTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        stripedLock.lockUntilCompletion(1L);
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                stripedLock.lockUntilCompletion(5L);
+                completeTransaction();
+                return true;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> other.get(200, TimeUnit.MILLISECONDS));
+        completeTransaction();
+        assertThat(other.get(5, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    private static void completeTransaction() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
\ No newline at end of file